@@ -1,8 +1,19 @@
+import fundamentals.World;
 import fundamentals.appbase.AppBase;
 
 public class App extends AppBase
 {
-    private AppContainer app_container = new AppContainer(); 
+    private AppContainer app_container = new AppContainer(getWorld()); 
+
+    public App()
+    {
+        this(World.getCurrent());
+    }
+
+    public App(World world)
+    {
+        super(world);
+    }
 
     // Use the status initiation methods here to transition between the status methods below
     @Override // This method is always periodically called, regardless of the app's current status
@@ -26,4 +37,15 @@ public class App extends AppBase
     { 
         app_container.runBotSim();
     }
+
+    @Override // This method is called at the end of every tick, regardless of the app's current status
+    public void sampleSensors()
+    {
+        app_container.sampleOdometry();
+    }
+
+    public AppContainer getAppContainer()
+    {
+        return app_container;
+    }
 }
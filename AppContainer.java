@@ -1,9 +1,11 @@
 import components.Bot;
 import components.Field;
 import fundamentals.Constants;
+import fundamentals.World;
 import fundamentals.UI.Controller;
 import fundamentals.appbase.AppBase;
 import mechanics.DriveBot;
+import odometry.ArcOdometryEstimator;
 
 public class AppContainer extends AppBase
 {
@@ -14,9 +16,13 @@ public class AppContainer extends AppBase
     Constants.CONTROLLER_KEY_IDS.KEY_E, 0, 0);
 
     // Components:
-    private Field field = new Field(Constants.FIELD_CHARACTERISTICS.FIELD_X_COORDINATE, 
+    private Field field = new Field(getWorld(), Constants.FIELD_CHARACTERISTICS.FIELD_X_COORDINATE, 
     Constants.FIELD_CHARACTERISTICS.FIELD_Y_COORDINATE);
-    private Bot bot = new Bot(field.getCoordinates().getX(), field.getCoordinates().getY());
+    private Bot bot = new Bot(getWorld(), field.getCoordinates().getX(), field.getCoordinates().getY());
+
+    // Odometry:
+    private ArcOdometryEstimator odometry_estimator = new ArcOdometryEstimator(bot.getOdometry(), 
+    ArcOdometryEstimator.HeadingSource.TRACKING_WHEELS);
 
     private final int BASE_DELTA_X = 1;
     private final int BASE_DELTA_Y = 1;
@@ -24,33 +30,55 @@ public class AppContainer extends AppBase
 
     public AppContainer()
     {
-       
+        this(World.getCurrent());
+    }
+
+    public AppContainer(World world)
+    {
+        super(world);
+    }
+
+    public Bot getBot()
+    {
+        return bot;
+    }
+
+    public ArcOdometryEstimator getOdometryEstimator()
+    {
+        return odometry_estimator;
+    }
+
+    // The estimator is updated right after every sample, so its estimate is always as of the same tick as the Bot's true pose
+    public void sampleOdometry()
+    {
+        bot.getOdometry().sample();
+        odometry_estimator.update();
     }
 
     public void runBotSim()
     {
         if(translation_controller.isLeftPressed())
-        {System.err.println("LEFT");
+        {
             new DriveBot(bot, -BASE_DELTA_X, 0, 0).schedule();
         }
         else if(translation_controller.isRightPressed())
-        {System.err.println("RIGHT");
+        {
             new DriveBot(bot, BASE_DELTA_X, 0, 0).schedule();
         }
         else if(translation_controller.isUpPressed())
-        {System.err.println("UP");
+        {
             new DriveBot(bot, 0, -BASE_DELTA_Y, 0).schedule();
         }
         else if(translation_controller.isDownPressed())
-        {System.err.println("DOWN");
+        {
             new DriveBot(bot, 0, BASE_DELTA_Y, 0).schedule();
         }
         else if(rotation_controller.isLeftPressed())
-        {System.err.println("Q");
+        {
             new DriveBot(bot, 0, 0, -BASE_DELTA_DEGREES).schedule();
         }
         else if(rotation_controller.isRightPressed())
-        {System.err.println("E");
+        {
             new DriveBot(bot, 0, 0, BASE_DELTA_DEGREES).schedule();
         }
     }
@@ -1,7 +1,133 @@
+import fundamentals.Constants;
+import odometry.MonteCarloOdometryRunner;
+import odometry.SensorNoise;
+
 public class Main
 {
+    private static final String USAGE = "Usage: Main [--headless <seconds>] [--playback <file>] [--record <file>] "
+    + "[--monte-carlo <trials> --headless <seconds>]";
+
     public static void main(String[] args)
     {
-        new App().startApp();
+        long headless_ticks = -1;
+        int monte_carlo_trials = 0;
+        String playback_file_name = null;
+        String record_file_name = null;
+
+        // "--headless <seconds>" runs the given amount of simulated seconds without a window, as fast as possible
+        // "--playback <file>" plays back a recording of keyboard input, and "--record <file>" records keyboard input
+        // "--monte-carlo <trials>" runs the headless playback that many times in parallel with differently seeded sensor noise; 
+        // every trial runs for the amount of simulated seconds given to "--headless"
+        for(int i = 0; i < args.length; i += 2)
+        {
+            if(!args[i].equals("--headless") && !args[i].equals("--playback") && !args[i].equals("--record") 
+            && !args[i].equals("--monte-carlo"))
+            {
+                exitWithUsage("Main.java: Unknown argument exeception! " + args[i]);
+            }
+
+            // A trailing flag without its value would otherwise be ignored, and silently open a window
+            if(i + 1 >= args.length)
+            {
+                exitWithUsage("Main.java: Missing value exeception! " + args[i] + " requires a value. ");
+            }
+
+            try
+            {
+                if(args[i].equals("--headless"))
+                {
+                    double simulated_millis = Double.parseDouble(args[i + 1]) * 1000;
+                    headless_ticks = (long)(simulated_millis / Constants.WINDOW_CHARACTERISTICS.REFRESH_RATE_MILLIS);
+                }
+                else if(args[i].equals("--playback"))
+                {
+                    playback_file_name = args[i + 1];
+                }
+                else if(args[i].equals("--record"))
+                {
+                    record_file_name = args[i + 1];
+                }
+                else
+                {
+                    monte_carlo_trials = Integer.parseInt(args[i + 1]);
+                }
+            }
+            catch(NumberFormatException e)
+            {
+                exitWithUsage("Main.java: Invalid number exeception! " + args[i] + " " + args[i + 1]);
+            }
+        }
+
+        // Without a window there's no keyboard input to record
+        if(record_file_name != null && (headless_ticks >= 0 || monte_carlo_trials > 0))
+        {
+            exitWithUsage("Main.java: --record can't be used with --headless or --monte-carlo, given that a headless run receives "
+            + "no keyboard input. ");
+        }
+
+        // Trials without a tick count would run zero ticks, and report zero error
+        if(monte_carlo_trials > 0 && headless_ticks < 0)
+        {
+            exitWithUsage("Main.java: --monte-carlo requires --headless <seconds> to set how long each trial runs. ");
+        }
+
+        // Every trial builds its own App, so none is built for the default World
+        if(monte_carlo_trials > 0)
+        {
+            runMonteCarloTrials(monte_carlo_trials, headless_ticks, playback_file_name);
+            return;
+        }
+
+        App app = new App();
+
+        if(playback_file_name != null)
+        {
+            app.playInput(playback_file_name);
+        }
+
+        if(record_file_name != null)
+        {
+            app.recordInput(record_file_name);
+        }
+
+        if(headless_ticks >= 0)
+        {
+            app.startHeadlessApp(headless_ticks);
+            return;
+        }
+
+        app.startApp();
+    }
+
+    private static void exitWithUsage(String message)
+    {
+        System.err.println(message);
+        System.err.println(USAGE);
+        System.exit(1);
+    }
+
+    // Every trial builds its own App in its own World, plays back the same recording, and reports its estimator
+    private static void runMonteCarloTrials(int trial_count, long tick_count, String playback_file_name)
+    {
+        MonteCarloOdometryRunner runner = new MonteCarloOdometryRunner((world, seed) ->
+        {
+            App trial_app = new App(world);
+            SensorNoise sensor_noise = trial_app.getAppContainer().getBot().getOdometry().getSensorNoise();
+
+            if(sensor_noise != null)
+            {
+                sensor_noise.reseed(seed);
+            }
+
+            if(playback_file_name != null)
+            {
+                trial_app.playInput(playback_file_name);
+            }
+
+            trial_app.startHeadlessApp(tick_count);
+            return trial_app.getAppContainer().getOdometryEstimator();
+        });
+
+        System.out.println(runner.run(trial_count, Constants.ODOMETRY_CHARACTERISTICS.SENSOR_NOISE_SEED));
     }
 }
\ No newline at end of file
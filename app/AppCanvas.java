@@ -0,0 +1,94 @@
+package app;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+
+import fundamentals.Constants;
+
+/**
+ * AppCanvas is used in place of AppGraphics's JPanel when the application renders actively. Rather than waiting on Swing to paint,
+ * AppBase's render thread calls renderFrame() at the frame rate cap, which has AppGraphics redraw whatever changed in its frame layer;
+ * the frame layer is then copied into the back buffer of a double-buffered BufferStrategy and shown. 
+ * 
+ * @see
+ * Note: Swing's repaints are ignored by the canvas, so frames are only ever rendered from the render thread. The canvas never takes
+ * keyboard focus, so key events keep going to the window's key listeners. 
+ */
+public class AppCanvas extends Canvas 
+{
+    private static final long serialVersionUID = 1L;
+
+    private AppGraphics app_graphics = null;
+    private BufferStrategy buffer_strategy = null;
+    private int frames_since_shown = 0;
+
+    /**
+     * AppCanvas is used in place of AppGraphics's JPanel when the application renders actively.
+     * 
+     * @param app_graphics
+     * - The AppGraphics instance used to paint each frame. 
+     */
+    public AppCanvas(AppGraphics app_graphics)
+    {
+        this.app_graphics = app_graphics;
+        setIgnoreRepaint(true);
+        setFocusable(false);
+        setBackground(Color.WHITE);
+    }
+
+    /**
+     * Renders a single frame, and shows it if anything has changed since the last frame shown. 
+     * 
+     * @return Whether or not a frame was shown; no frame can be shown until the canvas has been displayed in the window.
+     * 
+     * @see
+     * Note: The BufferStrategy is created the first time a frame is rendered. A frame whose buffer contents are lost while rendering 
+     * is rendered again. Given that the canvas ignores Swing's repaints, the frame is also shown once every FRAME_RATE_CAP frames
+     * even if nothing has changed, so the window recovers on its own after being covered or minimized. 
+     */
+    public boolean renderFrame()
+    {
+        if(!isDisplayable())
+        {
+            return false;
+        }
+
+        boolean frame_changed = app_graphics.updateFrame();
+        frames_since_shown++;
+
+        if(buffer_strategy == null)
+        {
+            createBufferStrategy(2);
+            buffer_strategy = getBufferStrategy();
+        }
+        else if(!frame_changed && !buffer_strategy.contentsLost() && frames_since_shown < Constants.WINDOW_CHARACTERISTICS.FRAME_RATE_CAP)
+        {
+            return false;
+        }
+
+        do
+        {
+            do
+            {
+                Graphics2D graphics_2d = (Graphics2D)buffer_strategy.getDrawGraphics();
+
+                try
+                {
+                    app_graphics.presentFrame(graphics_2d);
+                }
+                finally
+                {
+                    graphics_2d.dispose();
+                }
+            }
+            while(buffer_strategy.contentsRestored());
+
+            buffer_strategy.show();
+        }
+        while(buffer_strategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+        frames_since_shown = 0;
+        return true;
+    }
+}
@@ -2,11 +2,20 @@ package app;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import javax.swing.JPanel;
 
 import fundamentals.Constants;
+import fundamentals.Pose;
+import fundamentals.SimClock;
+import fundamentals.World;
+import fundamentals.animation.RotatedImageCache;
+import fundamentals.animation.Animation;
+import fundamentals.animation.ImageCache;
 import fundamentals.component.ComponentBase;
 import fundamentals.component.ComponentScheduler;
+import fundamentals.component.SceneSnapshot;
 
 /**
  * AppGraphics is responsible for painting all Components onto the application's window with the use of the Graphics class, and
@@ -19,6 +28,32 @@ import fundamentals.component.ComponentScheduler;
  */
 public class AppGraphics extends JPanel 
 {
+    private World world = null;
+    private BufferedImage background_layer = null;
+    private long background_layer_version = -1;
+    private long background_layer_render_count = 0;
+    // The frame layer persists between frames; only its dirty regions are redrawn
+    private BufferedImage frame_layer = null;
+    private Rectangle[] dirty_regions = new Rectangle[16];
+    private int dirty_region_count = 0;
+    private long frame_count = 0;
+    private long clean_frame_count = 0;
+    private long redrawn_pixel_count = 0;
+    // Indexed by component index; how each Component was drawn into the frame layer, and the frame it was last drawn in
+    private long[] drawn_frames = new long[0];
+    private Animation[] drawn_animations = new Animation[0];
+    private int[] drawn_x = new int[0];
+    private int[] drawn_y = new int[0];
+    private int[] drawn_degrees = new int[0];
+    private double[] drawn_opacities = new double[0];
+    private Rectangle[] drawn_bounds = new Rectangle[0];
+    // Indexed by snapshot entry; where each Component is drawn this frame, to the nearest pixel and degree
+    private Pose interpolated_pose = new Pose(0, 0, 0);
+    private int[] entry_x = new int[16];
+    private int[] entry_y = new int[16];
+    private int[] entry_degrees = new int[16];
+    private Rectangle[] entry_bounds = new Rectangle[16];
+
     /**
      * AppGraphics is responsible for painting all Components onto the application's window with the use of the Graphics class, and
      * the Graphics instance passed into the overridden method, paintComponent(Graphics graphics), 
@@ -28,40 +63,374 @@ public class AppGraphics extends JPanel
      * @see Given that registered Components remain registered unless they are manually unregistered, all registered Components will
      * remain continuously being painted on-screen, allowing any changes they may undergo at any momement be reflected on-screen.  
      */
-    public AppGraphics() {}
+    public AppGraphics() 
+    {
+        this(World.getCurrent());
+    }
+
+    /**
+     * Paints the Components of the World passed in, rather than those of the current World. 
+     * 
+     * @param world
+     * - The World whose published SceneSnapshots are painted.
+     */
+    public AppGraphics(World world)
+    {
+        this.world = world;
+    }
 
     @Override
     protected void paintComponent(Graphics graphics)
     {
-        Graphics2D graphics_2d = (Graphics2D)graphics;
+        render((Graphics2D)graphics);
+    }
+
+    /**
+     * Brings the frame layer up to date with the latest SceneSnapshot, then draws the whole frame layer onto the Graphics2D instance 
+     * passed in. This is called by paintComponent(...) when Swing paints the AppGraphics panel. 
+     * 
+     * @see
+     * Note: Nothing here schedules another paint; frames are requested by AppBase's main loop at Constants.WINDOW_CHARACTERISTICS.FRAME_RATE_CAP.
+     */
+    public void render(Graphics2D graphics_2d)
+    {
+        updateFrame();
+        presentFrame(graphics_2d);
+    }
 
-        for(int i = 0; i < ComponentScheduler.getComponents().size(); i++)
+    /**
+     * Draws the frame layer, as of the last call to updateFrame(), onto the Graphics2D instance passed in with a single call. 
+     */
+    public void presentFrame(Graphics2D graphics_2d)
+    {
+        if(frame_layer != null)
         {
-            try
+            graphics_2d.drawImage(frame_layer, 0, 0, null);
+        }
+    }
+
+    /**
+     * Brings the frame layer up to date with the latest SceneSnapshot by redrawing only the regions of the frame that have changed 
+     * since the last update. A Component's region is redrawn when it appears, disappears, moves, rotates, or changes its opacity or 
+     * animation/image; the region covers both where it was last drawn and where it's now drawn, and every other Component overlapping
+     * the region is redrawn with it, in order, over the background layer. 
+     * 
+     * @return Whether or not any part of the frame layer was redrawn; if not, the last frame presented is still current.
+     * 
+     * @see
+     * Note: Static Components are drawn into a background layer that is only redrawn when a static Component changes, in which case 
+     * the whole frame layer is redrawn as well. 
+     * 
+     * @see
+     * Note: Components are drawn one tick behind, interpolated between their poses at the end of the latest two ticks by how far 
+     * the frame is into the current tick, so motion is smooth at any frame rate. Interpolated poses are drawn to the nearest pixel
+     * and degree.
+     * 
+     * @see
+     * Note: Components are never read directly; only the SceneSnapshot published by the ComponentScheduler at the end of the latest 
+     * tick is, so rendering can safely run on a different thread than the ticks. This method must only be called by the renderer.
+     */
+    public boolean updateFrame()
+    {
+        SceneSnapshot scene_snapshot = ComponentScheduler.getLatestSceneSnapshot(world);
+        dirty_region_count = 0;
+        frame_count++;
+        placeEntries(scene_snapshot);
+
+        if(frame_layer == null)
+        {
+            frame_layer = ImageCache.createCompatibleImage(Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, 
+            Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT, Transparency.OPAQUE);
+        }
+
+        if(background_layer == null || background_layer_version != scene_snapshot.getStaticLayerVersion())
+        {
+            renderBackgroundLayer(scene_snapshot);
+            addDirtyRegion(new Rectangle(0, 0, frame_layer.getWidth(), frame_layer.getHeight()));
+        }
+
+        findDirtyRegions(scene_snapshot);
+
+        if(dirty_region_count == 0)
+        {
+            clean_frame_count++;
+            return false;
+        }
+
+        Graphics2D graphics_2d = frame_layer.createGraphics();
+
+        for(int i = 0; i < dirty_region_count; i++)
+        {
+            Rectangle dirty_region = dirty_regions[i];
+
+            graphics_2d.setClip(dirty_region);
+            graphics_2d.drawImage(background_layer, 0, 0, null);
+
+            for(int entry = 0; entry < scene_snapshot.size(); entry++)
+            {
+                if(!scene_snapshot.isStatic(entry) && entry_bounds[entry].intersects(dirty_region))
+                {
+                    renderEntry(graphics_2d, scene_snapshot, entry);
+                }
+            }
+
+            redrawn_pixel_count += (long)dirty_region.width * dirty_region.height;
+        }
+
+        graphics_2d.dispose();
+        return true;
+    }
+
+    // Places every Component in the snapshot where it's drawn this frame, interpolated between its last two poses by how far the 
+    // frame is into the tick after the snapshot's tick. Static Components are always placed at their latest pose.
+    private void placeEntries(SceneSnapshot scene_snapshot)
+    {
+        double alpha = (double)(System.nanoTime() - scene_snapshot.getCapturedNanos()) / SimClock.getTickNanos();
+        alpha = Math.max(0, Math.min(1, alpha));
+
+        if(entry_x.length < scene_snapshot.size())
+        {
+            int capacity = Math.max(scene_snapshot.size(), entry_x.length * 2);
+            entry_x = new int[capacity];
+            entry_y = new int[capacity];
+            entry_degrees = new int[capacity];
+            entry_bounds = Arrays.copyOf(entry_bounds, capacity);
+        }
+
+        for(int entry = 0; entry < scene_snapshot.size(); entry++)
+        {
+            Animation animation = scene_snapshot.getAnimation(entry);
+            scene_snapshot.getInterpolatedPose(entry, scene_snapshot.isStatic(entry) ? 1 : alpha, interpolated_pose);
+
+            entry_x[entry] = (int)Math.round(interpolated_pose.getX());
+            entry_y[entry] = (int)Math.round(interpolated_pose.getY());
+            entry_degrees[entry] = (int)Math.round(interpolated_pose.getHeadingDegrees());
+
+            if(entry_bounds[entry] == null)
+            {
+                entry_bounds[entry] = new Rectangle();
+            }
+
+            ComponentBase.calculateBounds(entry_bounds[entry], entry_x[entry], entry_y[entry], entry_degrees[entry], 
+            animation.getImageWidth(), animation.getImageHeight());
+        }
+    }
+
+    // Compares every non-static Component in the snapshot to how it was last drawn, and marks the regions that need redrawing
+    private void findDirtyRegions(SceneSnapshot scene_snapshot)
+    {
+        for(int entry = 0; entry < scene_snapshot.size(); entry++)
+        {
+            int index = scene_snapshot.getComponentIndex(entry);
+
+            if(scene_snapshot.isStatic(entry) || index < 0)
+            {
+                continue;
+            }
+
+            if(index >= drawn_frames.length)
+            {
+                growDrawnState(index + 1);
+            }
+
+            boolean drawn_last_frame = drawn_frames[index] == frame_count - 1;
+            Rectangle bounds = entry_bounds[entry];
+
+            if(!drawn_last_frame || drawn_animations[index] != scene_snapshot.getAnimation(entry) || drawn_x[index] != entry_x[entry]
+            || drawn_y[index] != entry_y[entry] || drawn_degrees[index] != entry_degrees[entry] 
+            || drawn_opacities[index] != scene_snapshot.getOpacity(entry) || !drawn_bounds[index].equals(bounds))
             {
-                ComponentBase current_component = ComponentScheduler.getComponents().get(i);
-            
-                if(current_component.getActivity())
+                if(drawn_last_frame)
                 {
-                    int x = current_component.getCoordinates().getX() - (current_component.getWidth() / 2);
-                    int y = current_component.getCoordinates().getY() - (current_component.getHeight() / 2);    
-
-                    AffineTransform original_transformation = graphics_2d.getTransform();
-                    double radians = Math.toRadians(current_component.getCoordinates().getDegrees());
-                
-                    graphics_2d.setClip(0, 0, Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT);
-                    graphics_2d.translate(current_component.getCoordinates().getX(), current_component.getCoordinates().getY());
-                    graphics_2d.rotate(radians);
-                    graphics_2d.translate(-current_component.getCoordinates().getX(), -current_component.getCoordinates().getY());
-                    graphics_2d.setComposite(AlphaComposite.SrcOver.derive((float)current_component.getOpacicty()));
-                    graphics_2d.drawImage(current_component.getAnimation(), x, y, null);
-                    graphics_2d.setComposite(AlphaComposite.SrcOver.derive(1));
-                    graphics_2d.setTransform(original_transformation);
+                    addDirtyRegion(drawn_bounds[index]);
                 }
+
+                addDirtyRegion(bounds);
+                drawn_animations[index] = scene_snapshot.getAnimation(entry);
+                drawn_x[index] = entry_x[entry];
+                drawn_y[index] = entry_y[entry];
+                drawn_degrees[index] = entry_degrees[entry];
+                drawn_opacities[index] = scene_snapshot.getOpacity(entry);
+                drawn_bounds[index].setBounds(bounds);
+            }
+
+            drawn_frames[index] = frame_count;
+        }
+
+        // Components drawn last frame that weren't in this snapshot have been removed, deactivated, or made static
+        for(int index = 0; index < drawn_frames.length; index++)
+        {
+            if(drawn_frames[index] == frame_count - 1)
+            {
+                addDirtyRegion(drawn_bounds[index]);
+                drawn_frames[index] = -1;
+                drawn_animations[index] = null;
             }
-            catch(ArrayIndexOutOfBoundsException e) {}
+        }
+    }
+
+    // Overlapping dirty regions are merged, so no pixel is redrawn twice in the same frame
+    private void addDirtyRegion(Rectangle region)
+    {
+        if(frame_layer == null)
+        {
+            return;
+        }
+
+        Rectangle clipped_region = region.intersection(new Rectangle(0, 0, frame_layer.getWidth(), frame_layer.getHeight()));
+
+        if(clipped_region.isEmpty())
+        {
+            return;
+        }
+
+        for(int i = 0; i < dirty_region_count; i++)
+        {
+            if(dirty_regions[i].intersects(clipped_region))
+            {
+                clipped_region.add(dirty_regions[i]);
+                dirty_region_count--;
+                dirty_regions[i] = dirty_regions[dirty_region_count];
+                i = -1;
+            }
+        }
+
+        if(dirty_region_count == dirty_regions.length)
+        {
+            Rectangle[] grown_dirty_regions = new Rectangle[dirty_regions.length * 2];
+            System.arraycopy(dirty_regions, 0, grown_dirty_regions, 0, dirty_region_count);
+            dirty_regions = grown_dirty_regions;
+        }
+
+        dirty_regions[dirty_region_count] = clipped_region;
+        dirty_region_count++;
+    }
+
+    private void growDrawnState(int capacity)
+    {
+        int grown_capacity = Math.max(capacity, drawn_frames.length * 2);
+        long[] grown_drawn_frames = new long[grown_capacity];
+        Animation[] grown_drawn_animations = new Animation[grown_capacity];
+        int[] grown_drawn_x = new int[grown_capacity];
+        int[] grown_drawn_y = new int[grown_capacity];
+        int[] grown_drawn_degrees = new int[grown_capacity];
+        double[] grown_drawn_opacities = new double[grown_capacity];
+        Rectangle[] grown_drawn_bounds = new Rectangle[grown_capacity];
+
+        Arrays.fill(grown_drawn_frames, -1);
+        System.arraycopy(drawn_frames, 0, grown_drawn_frames, 0, drawn_frames.length);
+        System.arraycopy(drawn_animations, 0, grown_drawn_animations, 0, drawn_frames.length);
+        System.arraycopy(drawn_x, 0, grown_drawn_x, 0, drawn_frames.length);
+        System.arraycopy(drawn_y, 0, grown_drawn_y, 0, drawn_frames.length);
+        System.arraycopy(drawn_degrees, 0, grown_drawn_degrees, 0, drawn_frames.length);
+        System.arraycopy(drawn_opacities, 0, grown_drawn_opacities, 0, drawn_frames.length);
+        System.arraycopy(drawn_bounds, 0, grown_drawn_bounds, 0, drawn_frames.length);
+
+        for(int i = drawn_frames.length; i < grown_capacity; i++)
+        {
+            grown_drawn_bounds[i] = new Rectangle();
+        }
+
+        drawn_frames = grown_drawn_frames;
+        drawn_animations = grown_drawn_animations;
+        drawn_x = grown_drawn_x;
+        drawn_y = grown_drawn_y;
+        drawn_degrees = grown_drawn_degrees;
+        drawn_opacities = grown_drawn_opacities;
+        drawn_bounds = grown_drawn_bounds;
+    }
+
+    /**
+     * @return The amount of frames in which nothing had changed, so nothing was redrawn. 
+     */
+    public long getCleanFrameCount()
+    {
+        return clean_frame_count;
+    }
+
+    /**
+     * @return The total amount of pixels redrawn into the frame layer across every frame. 
+     */
+    public long getRedrawnPixelCount()
+    {
+        return redrawn_pixel_count;
+    }
+
+    // Redraws every static Component into the background layer, which is then reused until a static Component changes
+    private void renderBackgroundLayer(SceneSnapshot scene_snapshot)
+    {
+        if(background_layer == null)
+        {
+            background_layer = ImageCache.createCompatibleImage(Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, 
+            Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT, Transparency.OPAQUE);
+        }
+
+        Graphics2D graphics_2d = background_layer.createGraphics();
+        graphics_2d.setColor(Color.WHITE);
+        graphics_2d.fillRect(0, 0, background_layer.getWidth(), background_layer.getHeight());
+
+        for(int i = 0; i < scene_snapshot.size(); i++)
+        {
+            if(scene_snapshot.isStatic(i))
+            {
+                renderEntry(graphics_2d, scene_snapshot, i);
+            }
+        }
+
+        graphics_2d.dispose();
+        background_layer_version = scene_snapshot.getStaticLayerVersion();
+        background_layer_render_count++;
+    }
+
+    /**
+     * @return The amount of times the background layer of static Components has been drawn; once, plus once per static Component change.
+     */
+    public long getBackgroundLayerRenderCount()
+    {
+        return background_layer_render_count;
+    }
+
+    private void renderEntry(Graphics2D graphics_2d, SceneSnapshot scene_snapshot, int i)
+    {
+        Animation animation = scene_snapshot.getAnimation(i);
+        RotatedImageCache.RotatedImage rotated_animation = null;
+
+        if(Constants.ANIMATION_CHARACTERISTICS.USE_ROTATED_IMAGE_CACHE)
+        {
+            rotated_animation = animation.getRotatedAnimation(entry_degrees[i]);
+        }
+
+        graphics_2d.setComposite(AlphaComposite.SrcOver.derive((float)scene_snapshot.getOpacity(i)));
+
+        if(rotated_animation != null)
+        {
+            int x = entry_x[i] - rotated_animation.getHalfWidth();
+            int y = entry_y[i] - rotated_animation.getHalfHeight();
+
+            graphics_2d.drawImage(rotated_animation.getImage(), x, y, null);
+        }
+        else if(entry_degrees[i] % 360 == 0)
+        {
+            int x = entry_x[i] - (animation.getImageWidth() / 2);
+            int y = entry_y[i] - (animation.getImageHeight() / 2);
+
+            graphics_2d.drawImage(animation.getAnimation(), x, y, null);
+        }
+        else
+        {
+            int x = entry_x[i] - (animation.getImageWidth() / 2);
+            int y = entry_y[i] - (animation.getImageHeight() / 2);
+
+            AffineTransform original_transformation = graphics_2d.getTransform();
+            double radians = Math.toRadians(entry_degrees[i]);
+        
+            graphics_2d.translate(entry_x[i], entry_y[i]);
+            graphics_2d.rotate(radians);
+            graphics_2d.translate(-entry_x[i], -entry_y[i]);
+            graphics_2d.drawImage(animation.getAnimation(), x, y, null);
+            graphics_2d.setTransform(original_transformation);
         }
 
-        repaint();
+        graphics_2d.setComposite(AlphaComposite.SrcOver.derive(1));
     }
 }
\ No newline at end of file
@@ -1,83 +1,252 @@
 package app.input;
 
 import java.awt.event.*;
-import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * AppInput is responsible for logging all keyboard keys experiencing a key-pressed or key-released event 
  * by implementing KeyListener. Moreover, this allows the application to know this state of every key on the keyboard.
+ * 
+ * @see
+ * Note: Key events arrive on the AWT event thread while Buttons are ran on the application's thread. So, events are logged into 
+ * bitsets indexed by key code, and once per tick captureSnapshot() copies those bitsets into a snapshot that every Button reads 
+ * from for the rest of the tick. All Buttons therefore see the same key states during a tick, and reading a key's state is a
+ * single bit test. A key's bit change and its edge event are logged together under event_lock, and the snapshot is captured under
+ * the same lock, so a snapshot never shows a key's new state without its edge event, or the other way around.
+ * 
+ * @see
+ * Note: Every key event that changes a key's state is also appended to a bounded ring buffer of edge events, so Buttons can see 
+ * presses that began and ended between two ticks; those presses never appear in a snapshot. Key-pressed events repeated by the OS 
+ * while a key is held don't change its state, so they aren't edges. If more events than the buffer holds occur between two ticks, the 
+ * oldest events are lost.
+ * 
+ * @see
+ * Note: Every AppInput instance logs its own keys. Each World owns a single AppInput, so every application in a World reads the same
+ * keys, while applications in separate Worlds never see one another's input.
  */
 public class AppInput implements KeyListener
 {
-    private static LinkedList<Integer> pressed_key_ids = new LinkedList<Integer>();
-    private static LinkedList<Integer> released_key_ids = new LinkedList<Integer>();
+    // Key codes at or above this value are ignored; every key code on a standard keyboard is well below it.
+    private static final int KEY_ID_CAPACITY = 1 << 16;
+    private static final int KEY_ID_WORDS = KEY_ID_CAPACITY / Long.SIZE;
+
+    private AtomicLongArray live_pressed_key_ids = new AtomicLongArray(KEY_ID_WORDS);
+    private AtomicLongArray live_released_key_ids = new AtomicLongArray(KEY_ID_WORDS);
+    private AtomicLong live_version = new AtomicLong();
+
+    // Edge events are written and read under event_lock, and published by advancing published_event_sequence. Reads take the lock as
+    // well, given that a writer wrapping the ring mid-read would otherwise overwrite the slots being read. Key bits are only changed
+    // under the lock too, so that each change is published along with its edge event.
+    private static final int EVENT_CAPACITY = 256;
+    private final Object event_lock = new Object();
+    private int[] event_key_ids = new int[EVENT_CAPACITY];
+    private boolean[] event_pressed = new boolean[EVENT_CAPACITY];
+    private long[] event_nanos = new long[EVENT_CAPACITY];
+    private long[] event_sequences = new long[EVENT_CAPACITY];
+    private AtomicLong published_event_sequence = new AtomicLong();
+
+    // Only read or written by the application's thread
+    private long[] pressed_key_ids = new long[KEY_ID_WORDS];
+    private long[] released_key_ids = new long[KEY_ID_WORDS];
+    private long snapshot_version = 0;
+    private long snapshot_event_sequence = 0;
 
     @Override 
     public void keyPressed(KeyEvent e)
     {   
-        for(int i = 0; i < released_key_ids.size(); i++)
+        pressKey(e.getKeyCode());
+    }
+
+    @Override
+    public void keyReleased(KeyEvent e)
+    {   
+        releaseKey(e.getKeyCode());
+    }
+
+    /**
+     * Logs the key associated with the key code passed in as pressed, exactly as if the key had been pressed on the keyboard. 
+     * This is used to inject scripted input, such as a recording played back by an InputPlayer. 
+     * 
+     * @see
+     * Note: This method may be called from any thread. 
+     */
+    public void pressKey(int key_id)
+    {
+        if(key_id >= 0 && key_id < KEY_ID_CAPACITY)
         {
-            if(e.getKeyCode() == released_key_ids.get(i))
+            synchronized(event_lock)
             {
-                released_key_ids.remove(i);
-                i--;
+                updateBit(live_released_key_ids, key_id, false);
+                boolean was_pressed = updateBit(live_pressed_key_ids, key_id, true);
+                live_version.incrementAndGet();
+
+                // The OS repeats key-pressed events while a key is held; only the first one is an edge
+                if(!was_pressed)
+                {
+                    appendEvent(key_id, true);
+                }
             }
         }
+    }
 
-        if(!pressed_key_ids.contains(e.getKeyCode()))
+    /**
+     * Logs the key associated with the key code passed in as released, exactly as if the key had been released on the keyboard. 
+     * This is used to inject scripted input, such as a recording played back by an InputPlayer. 
+     * 
+     * @see
+     * Note: This method may be called from any thread. 
+     */
+    public void releaseKey(int key_id)
+    {
+        if(key_id >= 0 && key_id < KEY_ID_CAPACITY)
         {
-            pressed_key_ids.addLast(e.getKeyCode());  
+            synchronized(event_lock)
+            {
+                boolean was_pressed = updateBit(live_pressed_key_ids, key_id, false);
+                updateBit(live_released_key_ids, key_id, true);
+                live_version.incrementAndGet();
+
+                if(was_pressed)
+                {
+                    appendEvent(key_id, false);
+                }
+            }
         }
     }
 
-    @Override
-    public void keyReleased(KeyEvent e)
-    {   
-        for(int i = 0; i < pressed_key_ids.size(); i++)
+    // Must be called under event_lock, along with the key's bit change
+    private void appendEvent(int key_id, boolean pressed)
+    {
+        long sequence = published_event_sequence.get();
+        int slot = (int)(sequence % EVENT_CAPACITY);
+
+        event_key_ids[slot] = key_id;
+        event_pressed[slot] = pressed;
+        event_nanos[slot] = System.nanoTime();
+        event_sequences[slot] = sequence;
+        published_event_sequence.set(sequence + 1);
+    }
+
+    // Returns the value the bit held beforehand
+    private static boolean updateBit(AtomicLongArray bits, int key_id, boolean value)
+    {
+        int word_index = key_id >>> 6;
+        long mask = 1L << key_id;
+        long word = 0;
+
+        do
         {
-            if(e.getKeyCode() == pressed_key_ids.get(i))
-            {
-                pressed_key_ids.remove(i);
-                i--;
-            }
+            word = bits.get(word_index);
         }
+        while(!bits.compareAndSet(word_index, word, value ? word | mask : word & ~mask));
+
+        return (word & mask) != 0;
+    }
 
-        if(!released_key_ids.contains(e.getKeyCode()))
+    /**
+     * Copies the state of every key into the snapshot that isKeyPressed(...) and isKeyReleased(...) read from. This method is called
+     * once per tick by AppBase, before any Buttons are ran; key events logged afterwards are seen on the next tick. 
+     * 
+     * @see
+     * Note: The copy is skipped entirely when no key events have been logged since the previous snapshot. 
+     */
+    public void captureSnapshot()
+    {
+        synchronized(event_lock)
         {
-            released_key_ids.addLast(e.getKeyCode());
+            snapshot_event_sequence = published_event_sequence.get();
+            long version = live_version.get();
+
+            if(version != snapshot_version)
+            {
+                snapshot_version = version;
+
+                for(int i = 0; i < KEY_ID_WORDS; i++)
+                {
+                    pressed_key_ids[i] = live_pressed_key_ids.get(i);
+                    released_key_ids[i] = live_released_key_ids.get(i);
+                }
+            }
         }
     }
 
     /**
-     * @return Whether or not the key associated with the key code passed in is currently pressed.
+     * @return The sequence number one past the last edge event included in the latest snapshot. Edge events are numbered in the order
+     * they occurred, starting from zero. 
      */
-    protected boolean isKeyPressed(int key_id)
+    protected long getSnapshotEventSequence()
+    {
+        return snapshot_event_sequence;
+    }
+
+    /**
+     * Counts the key-pressed edge events of a single key from the sequence number passed in up to the latest snapshot.  
+     * 
+     * @param key_id
+     * - The key code of the key in question. 
+     * 
+     * @param from_event_sequence
+     * - The sequence number of the first edge event to count; usually the value returned by getSnapshotEventSequence() last tick.
+     * 
+     * @return The amount of times the key was pressed. 
+     */
+    protected int countPressEdges(int key_id, long from_event_sequence)
     {
-        for(int i = 0; i < pressed_key_ids.size(); i++)
+        int count = 0;
+
+        synchronized(event_lock)
         {
-            if(pressed_key_ids.get(i) == key_id)
+            for(long sequence = Math.max(from_event_sequence, snapshot_event_sequence - EVENT_CAPACITY); sequence < snapshot_event_sequence; sequence++)
             {
-                return true;
+                int slot = (int)(sequence % EVENT_CAPACITY);
+
+                if(event_key_ids[slot] == key_id && event_pressed[slot] && event_sequences[slot] == sequence)
+                {
+                    count++;
+                }
             }
         }
 
-        return false;
+        return count;
     }
 
     /**
-     * @return Whether or not the key associated with the key code passed in is currently released. 
+     * @return The System.nanoTime() timestamp of the most recent key-pressed edge event of a single key up to the latest snapshot, or -1 
+     * if the key hasn't been pressed within the ring buffer's history.
      */
-    protected boolean isKeyReleased(int key_id)
+    protected long getLatestPressNanos(int key_id)
     {
-        for(int i = 0; i < released_key_ids.size(); i++)
+        synchronized(event_lock)
         {
-            if(released_key_ids.get(i) == key_id)
+            for(long sequence = snapshot_event_sequence - 1; sequence >= 0 && sequence >= snapshot_event_sequence - EVENT_CAPACITY; sequence--)
             {
-                return true;
+                int slot = (int)(sequence % EVENT_CAPACITY);
+
+                if(event_key_ids[slot] == key_id && event_pressed[slot] && event_sequences[slot] == sequence)
+                {
+                    return event_nanos[slot];
+                }
             }
         }
 
-        return false; 
+        return -1;
+    }
+
+    /**
+     * @return Whether or not the key associated with the key code passed in was pressed as of the latest snapshot.
+     */
+    protected boolean isKeyPressed(int key_id)
+    {
+        return key_id >= 0 && key_id < KEY_ID_CAPACITY && (pressed_key_ids[key_id >>> 6] & (1L << key_id)) != 0;
+    }
+
+    /**
+     * @return Whether or not the key associated with the key code passed in was released as of the latest snapshot. 
+     */
+    protected boolean isKeyReleased(int key_id)
+    {
+        return key_id >= 0 && key_id < KEY_ID_CAPACITY && (released_key_ids[key_id >>> 6] & (1L << key_id)) != 0;
     }
 
     @Override
@@ -93,18 +262,30 @@ public class AppInput implements KeyListener
     }
 
     /**
-     * @return The amount of keyboard keys that are currently being pressed.
+     * @return The amount of keyboard keys that were being pressed as of the latest snapshot.
      */
     public int getPressedSize()
     {
-        return pressed_key_ids.size();
+        return countBits(pressed_key_ids);
     }
 
     /**
-     * @return The amount of keyboard keys that have currently been released.  
+     * @return The amount of keyboard keys that had been released as of the latest snapshot.  
      */
     public int getReleasedSize()
     {
-        return released_key_ids.size();
+        return countBits(released_key_ids);
+    }
+
+    private static int countBits(long[] bits)
+    {
+        int count = 0;
+
+        for(int i = 0; i < bits.length; i++)
+        {
+            count += Long.bitCount(bits[i]);
+        }
+
+        return count;
     }
-}
\ No newline at end of file
+}
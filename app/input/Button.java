@@ -20,6 +20,9 @@ public class Button
     private boolean completed_lifetime_update = false; 
     private boolean current_is_active = false;
     private boolean prev_is_active = false;
+    private long next_event_sequence = 0;
+    private int pending_press_count = 0;
+    private long last_pressed_nanos = -1;
     
     private LinkedList<MechanicBase> when_pressed_mechanics = new LinkedList<MechanicBase>();
     private LinkedList<MechanicBase> while_pressed_cont_mechanics = new LinkedList<MechanicBase>(); 
@@ -41,6 +44,7 @@ public class Button
     {
         this.app_input = app_input;
         this.key_id = key_id;
+        this.next_event_sequence = app_input.getSnapshotEventSequence();
     }
 
     /**
@@ -77,6 +81,15 @@ public class Button
         return current_is_active;
     }
 
+    /**
+     * @return The System.nanoTime() timestamp of when the Button's keyboard key was last pressed, or -1 if it has never been pressed.
+     * Comparing this against System.nanoTime() when a mechanic reacts gives the input latency of the Button.
+     */
+    public long getLastPressedNanos()
+    {
+        return last_pressed_nanos;
+    }
+
     /**
      *  A button is either pressed or it is not. The "lifetime" of a button is from when an idle button becomes pressed, and then it
      * is released. Moreover, this method is repsonible for determining whether or not a new button lifetime (started by a press) was completed. 
@@ -181,7 +194,7 @@ public class Button
     {
         for(int i = 0; i < mechanics.size(); i++)
         {
-            if(!mechanics.get(i).isScheduled())
+            if(!mechanics.get(i).isScheduled() || mechanics.get(i).isInterruptionPending())
             {
                 mechanics.get(i).schedule();
             }
@@ -193,13 +206,35 @@ public class Button
      * should be scheduled and ran. Moreover, if this method is continuously called,it will continuously check to see if binded mechanics
      * can be scheduled based on the button's state. So, given that scheduling and running the binded mechanics serve as a response to 
      * pressing the button, continuously calling this method will ensure buttons immediately respond when pressed.  
+     * 
+     * @see
+     * Note: Key-pressed edge events logged by AppInput since the previous call are consumed as well, so a key that was pressed and 
+     * released between two calls still schedules the whenPressed(...) mechanics once. Every press schedules them once: when several 
+     * presses occur between two calls, such as while the application stalls, the presses are kept and one is responded to per call,
+     * given that a mechanic can only be scheduled once at a time. 
      */
     public void run()
     {
         prev_is_active = current_is_active;
+        int press_edges = app_input.countPressEdges(key_id, next_event_sequence);
+        next_event_sequence = app_input.getSnapshotEventSequence();
+
+        if(press_edges > 0)
+        {
+            last_pressed_nanos = app_input.getLatestPressNanos(key_id);
+        }
+
+        // A press whose edge event was lost, because more events occurred than AppInput's ring buffer holds, still counts once
+        if(isActive() && !prev_is_active && press_edges == 0)
+        {
+            press_edges = 1;
+        }
+
+        pending_press_count += press_edges;
 
-        if(isActive() && ! prev_is_active)
+        if(pending_press_count > 0)
         {
+            pending_press_count--;
             completed_lifetime_update = true;
             runButtonMechanics(when_pressed_mechanics);
         }
@@ -0,0 +1,63 @@
+package app.input;
+
+/**
+ * Plays an InputRecording back into AppInput, injecting each recorded key event at the same tick that it was originally 
+ * recorded on. Moreover, given that playback is driven by the tick count rather than by wall time, playing back a recording 
+ * is deterministic; it produces the same Button activity whether the application is ran on-screen or headless.  
+ */
+public class InputPlayer 
+{
+    private AppInput app_input = null;
+    private InputRecording recording = null;
+    private int next_event_index = 0;
+
+    /**
+     * Plays an InputRecording back into AppInput, injecting each recorded key event at the same tick that it was originally 
+     * recorded on. 
+     * 
+     * @param app_input
+     * - The AppInput instance to inject the recorded events into. 
+     * 
+     * @param recording
+     * - The recording to play back. 
+     */
+    public InputPlayer(AppInput app_input, InputRecording recording)
+    {
+        this.app_input = app_input;
+        this.recording = recording;
+    }
+
+    /**
+     * Injects every event that was recorded before the tick passed in began, and that hasn't been injected yet. 
+     * 
+     * @param tick
+     * - The tick count of the tick that is beginning. This method must be called once per tick, before any Buttons are ran. 
+     * 
+     * @see
+     * Note: An event recorded during tick N is injected at the start of tick N + 1; the first tick that could have observed it. 
+     */
+    public void update(long tick)
+    {
+        while(next_event_index < recording.getAmountOfEvents() && recording.getEventTick(next_event_index) < tick)
+        {
+            if(recording.isEventPressed(next_event_index))
+            {
+                app_input.pressKey(recording.getEventKey(next_event_index));
+            }
+            else
+            {
+                app_input.releaseKey(recording.getEventKey(next_event_index));
+            }
+
+            next_event_index++;
+        }
+    }
+
+    /**
+     * @return Whether or not every event in the recording has been injected. 
+     */
+    public boolean isFinished()
+    {
+        return next_event_index >= recording.getAmountOfEvents();
+    }
+}
@@ -0,0 +1,67 @@
+package app.input;
+
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.util.HashSet;
+
+import fundamentals.SimClock;
+import fundamentals.World;
+
+/**
+ * Records live keyboard input into an InputRecording by implementing KeyListener, stamping each event with the SimClock's 
+ * current tick count. Moreover, only changes in a key's state are recorded; the repeated key-pressed events sent while a key 
+ * is held down are ignored, given that they don't change what AppInput logs.  
+ */
+public class InputRecorder implements KeyListener
+{
+    private World world = null;
+    private InputRecording recording = new InputRecording();
+    private HashSet<Integer> pressed_key_ids = new HashSet<Integer>();
+
+    /**
+     * Records input stamped with the tick count of the current World. 
+     */
+    public InputRecorder()
+    {
+        this(World.getCurrent());
+    }
+
+    /**
+     * Records input stamped with the tick count of the World passed in. 
+     * 
+     * @param world
+     * - The World whose SimClock each event is stamped from. 
+     */
+    public InputRecorder(World world)
+    {
+        this.world = world;
+    }
+
+    @Override
+    public void keyPressed(KeyEvent e)
+    {
+        if(pressed_key_ids.add(e.getKeyCode()))
+        {
+            recording.addEvent(SimClock.getTickCount(world), e.getKeyCode(), true);
+        }
+    }
+
+    @Override
+    public void keyReleased(KeyEvent e)
+    {
+        pressed_key_ids.remove(e.getKeyCode());
+        recording.addEvent(SimClock.getTickCount(world), e.getKeyCode(), false);
+    }
+
+    @Override
+    public void keyTyped(KeyEvent e)
+    {}
+
+    /**
+     * @return The recording of every key event captured so far. 
+     */
+    public InputRecording getRecording()
+    {
+        return recording;
+    }
+}
@@ -0,0 +1,151 @@
+package app.input;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * A recording of keyboard input, where every key-pressed or key-released event is stamped with the tick it occurred on. Moreover, 
+ * recordings can be saved to and loaded from text files, so driving sessions can be captured with an InputRecorder and replayed 
+ * tick-for-tick with an InputPlayer. 
+ * 
+ * @see
+ * Note: Recording files list one event per line in the format "tick PRESSED|RELEASED key_code", in the order the events occurred.
+ * Blank lines and lines starting with "#" are ignored. EX: "120 PRESSED 37"
+ */
+public class InputRecording 
+{
+    private long[] event_ticks = new long[64];
+    private int[] event_key_ids = new int[64];
+    private boolean[] event_pressed = new boolean[64];
+    private int event_count = 0;
+
+    /**
+     * Appends an event to the end of the recording. Events must be added in the order they occurred. 
+     * 
+     * @param tick
+     * - The SimClock tick count at the moment the event occurred.
+     * 
+     * @param key_id
+     * - The key code of the keyboard key. 
+     * 
+     * @param pressed
+     * - Whether the key was pressed, or released. 
+     */
+    public synchronized void addEvent(long tick, int key_id, boolean pressed)
+    {
+        if(event_count == event_ticks.length)
+        {
+            long[] grown_ticks = new long[event_ticks.length * 2];
+            int[] grown_key_ids = new int[event_ticks.length * 2];
+            boolean[] grown_pressed = new boolean[event_ticks.length * 2];
+
+            System.arraycopy(event_ticks, 0, grown_ticks, 0, event_count);
+            System.arraycopy(event_key_ids, 0, grown_key_ids, 0, event_count);
+            System.arraycopy(event_pressed, 0, grown_pressed, 0, event_count);
+
+            event_ticks = grown_ticks;
+            event_key_ids = grown_key_ids;
+            event_pressed = grown_pressed;
+        }
+
+        event_ticks[event_count] = tick;
+        event_key_ids[event_count] = key_id;
+        event_pressed[event_count] = pressed;
+        event_count++;
+    }
+
+    /**
+     * @return The amount of events in the recording. 
+     */
+    public synchronized int getAmountOfEvents()
+    {
+        return event_count;
+    }
+
+    /**
+     * @return The tick that the event at the index passed in occurred on. 
+     */
+    public synchronized long getEventTick(int index)
+    {
+        return event_ticks[index];
+    }
+
+    /**
+     * @return The key code of the event at the index passed in. 
+     */
+    public synchronized int getEventKey(int index)
+    {
+        return event_key_ids[index];
+    }
+
+    /**
+     * @return Whether the event at the index passed in was a key-pressed event, rather than a key-released event. 
+     */
+    public synchronized boolean isEventPressed(int index)
+    {
+        return event_pressed[index];
+    }
+
+    /**
+     * Writes the recording to the file passed in, replacing the file if it already exists. 
+     * 
+     * @param file_name
+     * - The path of the recording file to write. 
+     */
+    public synchronized void save(String file_name)
+    {
+        try(PrintWriter writer = new PrintWriter(new FileWriter(file_name)))
+        {
+            for(int i = 0; i < event_count; i++)
+            {
+                writer.println(event_ticks[i] + " " + (event_pressed[i] ? "PRESSED" : "RELEASED") + " " + event_key_ids[i]);
+            }
+        }
+        catch(IOException e)
+        {
+            System.err.println("InputRecording.java: Caught exeception! Could not write the recording file: " + file_name);
+        }
+    }
+
+    /**
+     * Reads a recording from the file passed in. 
+     * 
+     * @param file_name
+     * - The path of the recording file to read. 
+     * 
+     * @return The recording read from the file. If the file can't be read, the events read before the failure are returned.
+     */
+    public static InputRecording load(String file_name)
+    {
+        InputRecording recording = new InputRecording();
+
+        try(BufferedReader reader = new BufferedReader(new FileReader(file_name)))
+        {
+            String line = null;
+
+            while((line = reader.readLine()) != null)
+            {
+                line = line.trim();
+
+                if(!line.isEmpty() && !line.startsWith("#"))
+                {
+                    String[] fields = line.split("\\s+");
+                    recording.addEvent(Long.parseLong(fields[0]), Integer.parseInt(fields[2]), fields[1].equals("PRESSED"));
+                }
+            }
+        }
+        catch(IOException e)
+        {
+            System.err.println("InputRecording.java: Caught exeception! Could not read the recording file: " + file_name);
+        }
+        catch(NumberFormatException | ArrayIndexOutOfBoundsException e)
+        {
+            System.err.println("InputRecording.java: Caught exeception! Malformed line in the recording file: " + file_name);
+        }
+
+        return recording;
+    }
+}
@@ -0,0 +1,46 @@
+package checks;
+
+/**
+ * Runs every headless check of the simulation and reports the ones that failed. Checks never open a window, and every check builds
+ * what it uses in a World of its own, so checks never see one another's mechanics, Components, or clock. 
+ * 
+ * @see
+ * Note: Ran from the repository's root directory, so that assets are found, with: java -Djava.awt.headless=true checks.Checks
+ * The exit status is 0 when every check passed, and 1 otherwise. 
+ */
+public class Checks 
+{
+    private static int check_count = 0;
+    private static int failure_count = 0;
+
+    /**
+     * Records the outcome of a single check, printing it if it failed. 
+     * 
+     * @param passed
+     * - Whether or not the check passed. 
+     * 
+     * @param description
+     * - What was checked; printed alongside a failure. 
+     */
+    public static void check(boolean passed, String description)
+    {
+        check_count++;
+
+        if(!passed)
+        {
+            failure_count++;
+            System.err.println("FAILED: " + description);
+        }
+    }
+
+    public static void main(String[] args)
+    {
+        InputChecks.run();
+        MechanicSchedulerChecks.run();
+        OdometryChecks.run();
+        MonteCarloChecks.run();
+
+        System.out.println((check_count - failure_count) + " of " + check_count + " checks passed");
+        System.exit(failure_count == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,143 @@
+package checks;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import app.input.AppInput;
+import app.input.Button;
+
+/**
+ * Checks that a Button reacts once to every press of its key, whether the press spans many ticks or begins and ends between two.
+ */
+public class InputChecks 
+{
+    private static final int KEY_ID = 65;
+
+    protected static void run()
+    {
+        checkHeldKeyWithRepeats();
+        checkTapBetweenTicks();
+        checkTapsDuringStall();
+        checkPressesDuringSnapshots();
+    }
+
+    // Runs a tick's worth of input: the snapshot is captured, and then the Button is ran
+    private static boolean runTick(AppInput app_input, Button button)
+    {
+        app_input.captureSnapshot();
+        button.run();
+        return button.completedLifetimeUpdate();
+    }
+
+    private static void checkHeldKeyWithRepeats()
+    {
+        AppInput app_input = new AppInput();
+        Button button = new Button(app_input, KEY_ID);
+
+        app_input.pressKey(KEY_ID);
+        Checks.check(runTick(app_input, button), "a pressed key doesn't fire its Button");
+
+        boolean fired_while_held = false;
+
+        // The OS repeats key-pressed events for as long as a key is held
+        for(int i = 0; i < 10; i++)
+        {
+            app_input.pressKey(KEY_ID);
+            app_input.pressKey(KEY_ID);
+            fired_while_held |= runTick(app_input, button);
+        }
+
+        Checks.check(!fired_while_held, "repeated key-pressed events of a held key fire its Button again");
+        Checks.check(button.getIsActive(), "a held key's Button isn't active");
+
+        app_input.releaseKey(KEY_ID);
+        runTick(app_input, button);
+        app_input.pressKey(KEY_ID);
+        Checks.check(runTick(app_input, button), "a key pressed again after being released doesn't fire its Button");
+    }
+
+    private static void checkTapBetweenTicks()
+    {
+        AppInput app_input = new AppInput();
+        Button button = new Button(app_input, KEY_ID);
+
+        runTick(app_input, button);
+        app_input.pressKey(KEY_ID);
+        app_input.releaseKey(KEY_ID);
+
+        Checks.check(runTick(app_input, button), "a key pressed and released between two ticks doesn't fire its Button");
+        Checks.check(!button.getIsActive(), "a key released before the tick leaves its Button active");
+        Checks.check(!runTick(app_input, button), "a tap between two ticks fires its Button on more than one tick");
+    }
+
+    // Presses made while the application stalls must each be responded to, on consecutive ticks
+    private static void checkTapsDuringStall()
+    {
+        AppInput app_input = new AppInput();
+        Button button = new Button(app_input, KEY_ID);
+
+        runTick(app_input, button);
+
+        for(int i = 0; i < 2; i++)
+        {
+            app_input.pressKey(KEY_ID);
+            app_input.releaseKey(KEY_ID);
+        }
+
+        Checks.check(runTick(app_input, button), "the first of two taps between two ticks doesn't fire its Button");
+        Checks.check(runTick(app_input, button), "the second of two taps between two ticks doesn't fire its Button on the next tick");
+        Checks.check(!runTick(app_input, button), "two taps between two ticks fire its Button more than twice");
+    }
+
+    // Key events arrive on another thread while ticks are being ran, so presses land at every point of captureSnapshot(); each press 
+    // must still fire the Button exactly once, rather than once for its key state and once more for its edge event a tick later
+    private static void checkPressesDuringSnapshots()
+    {
+        AppInput app_input = new AppInput();
+        Button button = new Button(app_input, KEY_ID);
+        AtomicLong tick_count = new AtomicLong();
+        int press_count = 5000;
+        long fired_count = 0;
+
+        Thread key_thread = new Thread(() ->
+        {
+            for(int i = 0; i < press_count; i++)
+            {
+                app_input.pressKey(KEY_ID);
+                awaitTicks(tick_count, 2);
+                app_input.releaseKey(KEY_ID);
+                awaitTicks(tick_count, 2);
+            }
+        }, "InputChecks key thread");
+
+        key_thread.start();
+
+        while(key_thread.isAlive())
+        {
+            if(runTick(app_input, button))
+            {
+                fired_count++;
+            }
+
+            tick_count.incrementAndGet();
+            Thread.yield();
+        }
+
+        for(int i = 0; i < 2; i++)
+        {
+            fired_count += runTick(app_input, button) ? 1 : 0;
+        }
+
+        Checks.check(fired_count == press_count, press_count + " presses made while ticks were being ran fired the Button " 
+        + fired_count + " times");
+    }
+
+    private static void awaitTicks(AtomicLong tick_count, int ticks)
+    {
+        long target_tick = tick_count.get() + ticks;
+
+        while(tick_count.get() < target_tick)
+        {
+            Thread.yield();
+        }
+    }
+}
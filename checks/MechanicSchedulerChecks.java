@@ -0,0 +1,190 @@
+package checks;
+
+import fundamentals.World;
+import fundamentals.animation.Animation;
+import fundamentals.component.ComponentBase;
+import fundamentals.component.ComponentScheduler;
+import fundamentals.mechanic.MechanicBase;
+import fundamentals.mechanic.MechanicScheduler;
+
+/**
+ * Checks how the MechanicScheduler resolves two mechanics requiring the same component under every interruption policy. 
+ */
+public class MechanicSchedulerChecks 
+{
+    private static class Block extends ComponentBase
+    {
+        private Block(World world)
+        {
+            super(world);
+            addRequirements(0, 0, 0, new Animation(""));
+        }
+    }
+
+    // Counts how many times each phase of its life has been ran
+    private static class CountingMechanic extends MechanicBase
+    {
+        private int execute_count = 0;
+        private int end_count = 0;
+        private boolean ended_interrupted = false;
+
+        private CountingMechanic(World world, ComponentBase component)
+        {
+            super(world);
+            addRequirements(component);
+        }
+
+        @Override
+        public void execute()
+        {
+            execute_count++;
+        }
+
+        @Override
+        public void end(boolean interrupted)
+        {
+            end_count++;
+            ended_interrupted = interrupted;
+        }
+    }
+
+    protected static void run()
+    {
+        checkCancelRunning();
+        checkRescheduleInterrupted();
+        checkCancelIncoming();
+        checkQueue();
+        checkReusedComponentIndex();
+    }
+
+    private static void checkCancelRunning()
+    {
+        World world = new World();
+        Block block = new Block(world);
+        CountingMechanic running = new CountingMechanic(world, block);
+        CountingMechanic incoming = new CountingMechanic(world, block);
+
+        running.schedule();
+        MechanicScheduler.runMechanics(world);
+        incoming.schedule();
+
+        Checks.check(running.end_count == 0, "CANCEL_RUNNING ends the running mechanic while the incoming mechanic is being scheduled");
+        Checks.check(incoming.isScheduled() && MechanicScheduler.getComponentOwner(world, block.getComponentIndex()) == incoming, 
+        "CANCEL_RUNNING doesn't hand the component to the incoming mechanic");
+
+        MechanicScheduler.runMechanics(world);
+
+        Checks.check(running.end_count == 1 && running.ended_interrupted && !running.isScheduled(), 
+        "CANCEL_RUNNING doesn't end the running mechanic as interrupted on the next pass");
+        Checks.check(running.execute_count == 0, "CANCEL_RUNNING executes the running mechanic after it lost its component");
+        Checks.check(incoming.isScheduled() && incoming.end_count == 0, "CANCEL_RUNNING cancels the incoming mechanic");
+    }
+
+    // A mechanic that lost its component and is rescheduled before being ended must end once, and then take the component back
+    private static void checkRescheduleInterrupted()
+    {
+        World world = new World();
+        Block block = new Block(world);
+        CountingMechanic running = new CountingMechanic(world, block);
+        CountingMechanic incoming = new CountingMechanic(world, block);
+
+        running.schedule();
+        MechanicScheduler.runMechanics(world);
+        incoming.schedule();
+        long duplicate_schedule_count = MechanicScheduler.getDuplicateScheduleCount(world);
+        running.schedule();
+
+        Checks.check(MechanicScheduler.getDuplicateScheduleCount(world) == duplicate_schedule_count, 
+        "Rescheduling a mechanic waiting to be ended as interrupted counts as a duplicate schedule");
+        Checks.check(running.end_count == 1 && running.ended_interrupted, 
+        "Rescheduling a mechanic waiting to be ended as interrupted doesn't end it first");
+        Checks.check(running.isScheduled() && !running.isInterruptionPending() 
+        && MechanicScheduler.getComponentOwner(world, block.getComponentIndex()) == running, 
+        "Rescheduling a mechanic waiting to be ended as interrupted doesn't take its component back");
+
+        MechanicScheduler.runMechanics(world);
+        MechanicScheduler.runMechanics(world);
+
+        Checks.check(running.isScheduled() && running.end_count == 1 && running.execute_count == 1, 
+        "A rescheduled mechanic isn't ran afresh on the passes after it was rescheduled");
+        Checks.check(incoming.end_count == 1 && incoming.ended_interrupted && !incoming.isScheduled(), 
+        "The mechanic that took over the component isn't ended as interrupted once the component is taken back");
+    }
+
+    private static void checkCancelIncoming()
+    {
+        World world = new World();
+        Block block = new Block(world);
+        CountingMechanic running = new CountingMechanic(world, block);
+        CountingMechanic incoming = new CountingMechanic(world, block);
+
+        running.setInterruptionPolicy(MechanicBase.InterruptionPolicy.CANCEL_INCOMING);
+        running.schedule();
+        MechanicScheduler.runMechanics(world);
+        incoming.schedule();
+        MechanicScheduler.runMechanics(world);
+
+        Checks.check(running.isScheduled() && running.end_count == 0, "CANCEL_INCOMING ends the running mechanic");
+        Checks.check(!incoming.isScheduled() && MechanicScheduler.getRejectedScheduleCount(world) == 1, 
+        "CANCEL_INCOMING doesn't reject the incoming mechanic");
+    }
+
+    private static void checkQueue()
+    {
+        World world = new World();
+        Block block = new Block(world);
+        CountingMechanic running = new CountingMechanic(world, block);
+        CountingMechanic incoming = new CountingMechanic(world, block);
+
+        running.setInterruptionPolicy(MechanicBase.InterruptionPolicy.QUEUE);
+        running.schedule();
+        MechanicScheduler.runMechanics(world);
+        incoming.schedule();
+        MechanicScheduler.runMechanics(world);
+
+        Checks.check(running.isScheduled() && incoming.isQueued() && !incoming.isScheduled(), 
+        "QUEUE doesn't queue the incoming mechanic while the running mechanic owns the component");
+
+        running.cancel();
+        MechanicScheduler.runMechanics(world);
+        MechanicScheduler.runMechanics(world);
+
+        Checks.check(!incoming.isQueued() && incoming.isScheduled() 
+        && MechanicScheduler.getComponentOwner(world, block.getComponentIndex()) == incoming, 
+        "QUEUE doesn't schedule the queued mechanic once the running mechanic ends");
+    }
+
+    // A removed component's index is handed to the next component registered, which must not inherit the removed one's mechanics
+    private static void checkReusedComponentIndex()
+    {
+        World world = new World();
+        Block removed_block = new Block(world);
+        CountingMechanic long_lived = new CountingMechanic(world, removed_block);
+
+        long_lived.schedule();
+        MechanicScheduler.runMechanics(world);
+        int removed_index = removed_block.getComponentIndex();
+        ComponentScheduler.removeComponent(removed_block);
+
+        Block new_block = new Block(world);
+        CountingMechanic incoming = new CountingMechanic(world, new_block);
+
+        Checks.check(new_block.getComponentIndex() == removed_index, "a removed component's index isn't reused");
+
+        Checks.check(MechanicScheduler.getComponentOwner(world, new_block.getComponentIndex()) == null, 
+        "a component given a reused index is owned by the mechanic that required the removed component");
+
+        incoming.schedule();
+        MechanicScheduler.runMechanics(world);
+
+        Checks.check(long_lived.isScheduled() && long_lived.end_count == 0, 
+        "scheduling a mechanic for a component given a reused index interrupts an unrelated mechanic");
+
+        long_lived.cancel();
+        MechanicScheduler.runMechanics(world);
+        long_lived.schedule();
+
+        Checks.check(!long_lived.getRequirementMask().get(new_block.getComponentIndex()), 
+        "a rescheduled mechanic claims the component given its removed component's index");
+    }
+}
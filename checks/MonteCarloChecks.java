@@ -0,0 +1,54 @@
+package checks;
+
+import odometry.ArcOdometryEstimator;
+import odometry.MonteCarloOdometryRunner;
+import odometry.OdometryTrialResults;
+
+/**
+ * Checks that a MonteCarloOdometryRunner's results depend only on its base seed, and never on how many threads its trials are ran on.
+ */
+public class MonteCarloChecks 
+{
+    private static final int TRIAL_COUNT = 16;
+    private static final int DRIVE_TICKS = 400;
+
+    protected static void run()
+    {
+        MonteCarloOdometryRunner.OdometryTrial trial = (world, seed) ->
+        {
+            OdometryChecks.ScriptedDrive drive = new OdometryChecks.ScriptedDrive(world, ArcOdometryEstimator.HeadingSource.TRACKING_WHEELS, 
+            OdometryChecks.createSensorNoise(seed), 0, 1, 0.004, DRIVE_TICKS);
+            drive.startHeadlessApp(DRIVE_TICKS);
+            return drive.getEstimator();
+        };
+
+        OdometryTrialResults first_results = new MonteCarloOdometryRunner(trial, 4).run(TRIAL_COUNT, 1);
+        OdometryTrialResults repeated_results = new MonteCarloOdometryRunner(trial, 4).run(TRIAL_COUNT, 1);
+        OdometryTrialResults single_thread_results = new MonteCarloOdometryRunner(trial, 1).run(TRIAL_COUNT, 1);
+        OdometryTrialResults reseeded_results = new MonteCarloOdometryRunner(trial, 4).run(TRIAL_COUNT, 2);
+
+        Checks.check(haveSameErrors(first_results, repeated_results), "Monte Carlo trials differ between two runs with the same seed");
+        Checks.check(haveSameErrors(first_results, single_thread_results), "Monte Carlo trials differ between 4 threads and 1 thread");
+        Checks.check(!haveSameErrors(first_results, reseeded_results), "Monte Carlo trials are identical with two different seeds");
+        Checks.check(first_results.getMeanPositionError() > 0, "Monte Carlo trials report no position error despite sensor noise");
+    }
+
+    // Every trial's errors must match exactly, so the statistics derived from them match as well
+    private static boolean haveSameErrors(OdometryTrialResults results, OdometryTrialResults other_results)
+    {
+        if(results.getTrialCount() != other_results.getTrialCount())
+        {
+            return false;
+        }
+
+        for(int i = 0; i < results.getTrialCount(); i++)
+        {
+            if(results.getPositionError(i) != other_results.getPositionError(i) || results.getHeadingError(i) != other_results.getHeadingError(i))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,205 @@
+package checks;
+
+import components.Bot;
+import fundamentals.Constants;
+import fundamentals.Pose;
+import fundamentals.World;
+import fundamentals.appbase.AppBase;
+import fundamentals.mechanic.MechanicBase;
+import odometry.ArcOdometryEstimator;
+import odometry.SensorNoise;
+
+/**
+ * Checks that the ArcOdometryEstimator tracks a Bot driven by a script with perfect sensors, so that any error reported with 
+ * noisy sensors is the noise's doing rather than the estimator's. 
+ */
+public class OdometryChecks 
+{
+    // Perfect sensors still quantize every wheel's travel to whole encoder ticks, so the estimate is never exact
+    private static final double MAX_POSITION_ERROR = 0.01;
+    private static final double MAX_HEADING_ERROR = 1e-4;
+    private static final int DRIVE_TICKS = 1000;
+
+    /**
+     * An application that drives its Bot forward along its heading, and turns it, by a fixed amount every tick for a fixed amount 
+     * of ticks, and then stops. 
+     * 
+     * @see
+     * Note: The Bot is driven by a mechanic, exactly like DriveBot, and sampled at the end of every tick, exactly like App; so the 
+     * estimate is as of the same tick as the Bot's true pose, and is compared against it right after the last tick is ran. 
+     */
+    protected static class ScriptedDrive extends AppBase
+    {
+        private Bot bot = new Bot(getWorld(), 500, 300);
+        private ArcOdometryEstimator estimator = null;
+
+        /**
+         * @param world
+         * - The World to drive the Bot in. 
+         * 
+         * @param heading_source
+         * - Where the estimator measures the Bot's change in heading from. 
+         * 
+         * @param sensor_noise
+         * - The noise applied to the Bot's sensors, or null for perfect sensors. 
+         * 
+         * @param start_heading
+         * - The heading in radians the Bot starts at. 
+         * 
+         * @param forward_per_tick
+         * - The distance in pixels driven forward every tick. 
+         * 
+         * @param turn_per_tick
+         * - The radians turned every tick. 
+         * 
+         * @param drive_ticks
+         * - The amount of ticks to drive for. 
+         */
+        protected ScriptedDrive(World world, ArcOdometryEstimator.HeadingSource heading_source, SensorNoise sensor_noise, 
+        double start_heading, double forward_per_tick, double turn_per_tick, int drive_ticks)
+        {
+            super(world);
+            bot.setPose(bot.getPose().getX(), bot.getPose().getY(), start_heading);
+            bot.getOdometry().setSensorNoise(sensor_noise);
+            estimator = new ArcOdometryEstimator(bot.getOdometry(), heading_source);
+            new DriveScript(bot, forward_per_tick, turn_per_tick, drive_ticks).schedule();
+        }
+
+        @Override
+        public void determineAppStatus()
+        {
+            initiateAppStatus();
+        }
+
+        @Override
+        public void sampleSensors()
+        {
+            bot.getOdometry().sample();
+            estimator.update();
+        }
+
+        protected ArcOdometryEstimator getEstimator()
+        {
+            return estimator;
+        }
+    }
+
+    private static class DriveScript extends MechanicBase
+    {
+        private Bot bot = null;
+        private double forward_per_tick = 0;
+        private double turn_per_tick = 0;
+        private int ticks_left = 0;
+
+        private DriveScript(Bot bot, double forward_per_tick, double turn_per_tick, int drive_ticks)
+        {
+            super(bot.getWorld());
+            this.bot = bot;
+            this.forward_per_tick = forward_per_tick;
+            this.turn_per_tick = turn_per_tick;
+            this.ticks_left = drive_ticks;
+
+            addRequirements(bot);
+            setExecutionalPeriodicDelay(0);
+        }
+
+        @Override
+        public void initialize()
+        {
+            drive();
+        }
+
+        @Override
+        public void execute()
+        {
+            drive();
+        }
+
+        private void drive()
+        {
+            double heading = bot.getPose().getHeading();
+            bot.translate(forward_per_tick * Math.cos(heading), forward_per_tick * Math.sin(heading), turn_per_tick);
+            ticks_left--;
+        }
+
+        @Override
+        public boolean isFinished()
+        {
+            return ticks_left <= 0;
+        }
+    }
+
+    protected static void run()
+    {
+        checkNoiselessDrive("straight drive", 0, 1.5, 0);
+        checkNoiselessDrive("turn in place", 0, 0, 0.01);
+        checkNoiselessDrive("arc", 0, 1, 0.004);
+        checkNoiselessDrive("arc from a heading of 2 radians", 2, 1, 0.004);
+        checkNoiseDeterminism();
+    }
+
+    /**
+     * @return Sensor noise configured exactly like the Bot's own, seeded with the seed passed in. 
+     */
+    protected static SensorNoise createSensorNoise(long seed)
+    {
+        SensorNoise sensor_noise = new SensorNoise(seed);
+        sensor_noise.setWheelJitter(Constants.ODOMETRY_CHARACTERISTICS.WHEEL_JITTER_RATIO);
+        sensor_noise.setWheelSlip(Constants.ODOMETRY_CHARACTERISTICS.WHEEL_SLIP_PROBABILITY, 
+        Constants.ODOMETRY_CHARACTERISTICS.WHEEL_MAX_SLIP_FRACTION, Constants.ODOMETRY_CHARACTERISTICS.WHEEL_SLIP_SAMPLES);
+        sensor_noise.setEncoderDropout(Constants.ODOMETRY_CHARACTERISTICS.ENCODER_DROPOUT_PROBABILITY, 
+        Constants.ODOMETRY_CHARACTERISTICS.ENCODER_DROPOUT_SAMPLES);
+        sensor_noise.setImuDrift(Constants.ODOMETRY_CHARACTERISTICS.IMU_BIAS_RATE, Constants.ODOMETRY_CHARACTERISTICS.IMU_RANDOM_WALK, 
+        Constants.ODOMETRY_CHARACTERISTICS.IMU_NOISE);
+        sensor_noise.setImuResolution(Constants.ODOMETRY_CHARACTERISTICS.IMU_RESOLUTION);
+        return sensor_noise;
+    }
+
+    // Runs well past a full turn when turning, so the heading error is also checked across the wrap from PI to -PI
+    private static void checkNoiselessDrive(String name, double start_heading, double forward_per_tick, double turn_per_tick)
+    {
+        ArcOdometryEstimator.HeadingSource[] heading_sources = ArcOdometryEstimator.HeadingSource.values();
+
+        for(int i = 0; i < heading_sources.length; i++)
+        {
+            ScriptedDrive drive = new ScriptedDrive(new World(), heading_sources[i], null, start_heading, forward_per_tick, turn_per_tick, 
+            DRIVE_TICKS);
+            drive.startHeadlessApp(DRIVE_TICKS);
+
+            ArcOdometryEstimator estimator = drive.getEstimator();
+            String description = "noiseless " + name + " measured with " + heading_sources[i];
+
+            Checks.check(estimator.getPositionError() < MAX_POSITION_ERROR, 
+            description + " has position error " + estimator.getPositionError());
+            Checks.check(Math.abs(estimator.getHeadingError()) < MAX_HEADING_ERROR, 
+            description + " has heading error " + estimator.getHeadingError());
+        }
+    }
+
+    // The same seed must reproduce the same estimate exactly, while another seed must not
+    private static void checkNoiseDeterminism()
+    {
+        ArcOdometryEstimator.HeadingSource[] heading_sources = ArcOdometryEstimator.HeadingSource.values();
+
+        for(int i = 0; i < heading_sources.length; i++)
+        {
+            Pose first_pose = runNoisyArc(heading_sources[i], 7);
+            Pose repeated_pose = runNoisyArc(heading_sources[i], 7);
+            Pose reseeded_pose = runNoisyArc(heading_sources[i], 8);
+            String description = "noisy arc measured with " + heading_sources[i];
+
+            Checks.check(first_pose.getX() == repeated_pose.getX() && first_pose.getY() == repeated_pose.getY() 
+            && first_pose.getHeading() == repeated_pose.getHeading(), description + " differs between two runs with the same seed");
+            Checks.check(first_pose.getX() != reseeded_pose.getX() || first_pose.getY() != reseeded_pose.getY(), 
+            description + " is identical with two different seeds");
+        }
+    }
+
+    private static Pose runNoisyArc(ArcOdometryEstimator.HeadingSource heading_source, long seed)
+    {
+        ScriptedDrive drive = new ScriptedDrive(new World(), heading_source, createSensorNoise(seed), 0, 1, 0.004, DRIVE_TICKS);
+        drive.startHeadlessApp(DRIVE_TICKS);
+        Pose estimated_pose = drive.getEstimator().getEstimatedPose();
+        return new Pose(estimated_pose.getX(), estimated_pose.getY(), estimated_pose.getHeading());
+    }
+}
@@ -1,22 +1,66 @@
 package components;
 
-import fundamentals.Coordinates;
+import fundamentals.Constants;
+import fundamentals.Pose;
+import fundamentals.World;
 import fundamentals.animation.Animation;
 import fundamentals.component.ComponentBase;
+import odometry.SensorNoise;
+import odometry.TrackingWheel;
+import odometry.TrackingWheelOdometry;
 
 public class Bot extends ComponentBase
 {
     private Animation bot_anim = new Animation("bot.png");
+    private TrackingWheelOdometry odometry = new TrackingWheelOdometry(this, Constants.ODOMETRY_CHARACTERISTICS.SAMPLES_PER_TICK, 
+    Constants.ODOMETRY_CHARACTERISTICS.SAMPLE_BUFFER_CAPACITY, 
+    new TrackingWheel(TrackingWheel.Orientation.PARALLEL, Constants.ODOMETRY_CHARACTERISTICS.LEFT_WHEEL_LATERAL_OFFSET, 
+    Constants.ODOMETRY_CHARACTERISTICS.WHEEL_DIAMETER, Constants.ODOMETRY_CHARACTERISTICS.TICKS_PER_REVOLUTION),
+    new TrackingWheel(TrackingWheel.Orientation.PARALLEL, Constants.ODOMETRY_CHARACTERISTICS.RIGHT_WHEEL_LATERAL_OFFSET, 
+    Constants.ODOMETRY_CHARACTERISTICS.WHEEL_DIAMETER, Constants.ODOMETRY_CHARACTERISTICS.TICKS_PER_REVOLUTION),
+    new TrackingWheel(TrackingWheel.Orientation.PERPENDICULAR, Constants.ODOMETRY_CHARACTERISTICS.PERPENDICULAR_WHEEL_FORWARD_OFFSET, 
+    Constants.ODOMETRY_CHARACTERISTICS.WHEEL_DIAMETER, Constants.ODOMETRY_CHARACTERISTICS.TICKS_PER_REVOLUTION));
     
     public Bot(int x, int y)
     {
+        this(World.getCurrent(), x, y);
+    }
+
+    public Bot(World world, int x, int y)
+    {
+        super(world);
         addRequirements(x, y, 0, bot_anim);
         setAnimation(bot_anim.getName());
+
+        if(Constants.ODOMETRY_CHARACTERISTICS.USE_SENSOR_NOISE)
+        {
+            SensorNoise sensor_noise = new SensorNoise(Constants.ODOMETRY_CHARACTERISTICS.SENSOR_NOISE_SEED);
+            sensor_noise.setWheelJitter(Constants.ODOMETRY_CHARACTERISTICS.WHEEL_JITTER_RATIO);
+            sensor_noise.setWheelSlip(Constants.ODOMETRY_CHARACTERISTICS.WHEEL_SLIP_PROBABILITY, 
+            Constants.ODOMETRY_CHARACTERISTICS.WHEEL_MAX_SLIP_FRACTION, Constants.ODOMETRY_CHARACTERISTICS.WHEEL_SLIP_SAMPLES);
+            sensor_noise.setEncoderDropout(Constants.ODOMETRY_CHARACTERISTICS.ENCODER_DROPOUT_PROBABILITY, 
+            Constants.ODOMETRY_CHARACTERISTICS.ENCODER_DROPOUT_SAMPLES);
+            sensor_noise.setImuDrift(Constants.ODOMETRY_CHARACTERISTICS.IMU_BIAS_RATE, Constants.ODOMETRY_CHARACTERISTICS.IMU_RANDOM_WALK, 
+            Constants.ODOMETRY_CHARACTERISTICS.IMU_NOISE);
+            sensor_noise.setImuResolution(Constants.ODOMETRY_CHARACTERISTICS.IMU_RESOLUTION);
+            odometry.setSensorNoise(sensor_noise);
+        }
+    }
+
+    // The Bot's tracking wheels are indexed left parallel, right parallel, then perpendicular
+    public TrackingWheelOdometry getOdometry()
+    {
+        return odometry;
     }
 
     public void translate(int delta_x, int delta_y, int delta_degrees)
     {
-        Coordinates initial_coords = getCoordinates();
-        setCoordinates(initial_coords.getX() + delta_x, initial_coords.getY() + delta_y, initial_coords.getDegrees() + delta_degrees);
+        translate((double)delta_x, (double)delta_y, Math.toRadians(delta_degrees));
+    }
+
+    public void translate(double delta_x, double delta_y, double delta_heading)
+    {
+        Pose initial_pose = getPose();
+        setPose(initial_pose.getX() + delta_x, initial_pose.getY() + delta_y, initial_pose.getHeading() + delta_heading);
     }
 }
@@ -1,5 +1,6 @@
 package components;
 
+import fundamentals.World;
 import fundamentals.animation.Animation;
 import fundamentals.component.ComponentBase;
 
@@ -9,7 +10,14 @@ public class Field extends ComponentBase
 
     public Field(int x, int y)
     {
+        this(World.getCurrent(), x, y);
+    }
+
+    public Field(World world, int x, int y)
+    {
+        super(world);
         addRequirements(x, y, 0, field_anim);
         setAnimation(field_anim.getName());
+        setStatic(true);
     }    
 }
@@ -24,9 +24,59 @@ public class Constants
         public static final int WINDOW_WIDTH = 1154;
         public static final int WINDOW_HEIGHT = 595;
         public static final int REFRESH_RATE_MILLIS = 5;
+        // The most ticks ran back-to-back to catch up after a stall before the remaining backlog is dropped.
+        public static final int MAX_CATCH_UP_TICKS = 5;
+        // The render thread paces itself to render at most this many frames per second, independent of the refresh rate; without 
+        // active rendering, the main loop instead asks Swing to repaint at most this many times per second.
+        public static final int FRAME_RATE_CAP = 60;
+        // Renders into a double-buffered BufferStrategy from a dedicated render thread rather than through Swing's repaint().
+        public static final boolean ACTIVE_RENDERING = true;
         public static final double GRAPHICS_TRANSFORMATION_SCALER = 1.25;
     }
 
+    public static final class ANIMATION_CHARACTERISTICS
+    {
+        // Rotated components are drawn from pre-rotated copies of their images rather than being rotated every frame
+        public static final boolean USE_ROTATED_IMAGE_CACHE = true;
+        public static final long ROTATED_IMAGE_CACHE_MAX_BYTES = 32L * 1024 * 1024;
+    }
+
+    public static final class COMPONENT_CHARACTERISTICS
+    {
+        // Registered components keep their poses and velocities in the PoseStore's parallel arrays rather than in their own Pose
+        public static final boolean USE_POSE_STORE = true;
+    }
+
+    /*
+     * Characteristics of the Bot's simulated odometry sensors. Distances are in pixels from the Bot's center of rotation.
+     */
+    public static final class ODOMETRY_CHARACTERISTICS
+    {
+        public static final double LEFT_WHEEL_LATERAL_OFFSET = -20;
+        public static final double RIGHT_WHEEL_LATERAL_OFFSET = 20;
+        public static final double PERPENDICULAR_WHEEL_FORWARD_OFFSET = -15;
+        public static final double WHEEL_DIAMETER = 7;
+        public static final int TICKS_PER_REVOLUTION = 8192;
+        // Samples taken per tick; at a 5 ms refresh rate, 5 samples per tick is a 1 kHz sample rate
+        public static final int SAMPLES_PER_TICK = 5;
+        public static final int SAMPLE_BUFFER_CAPACITY = 4096;
+
+        // Sensor noise; the same seed always reproduces the same sensor readings for the same motion
+        public static final boolean USE_SENSOR_NOISE = true;
+        public static final long SENSOR_NOISE_SEED = 1;
+        public static final double WHEEL_JITTER_RATIO = 0.01;
+        public static final double WHEEL_SLIP_PROBABILITY = 0.0001;
+        public static final double WHEEL_MAX_SLIP_FRACTION = 0.3;
+        public static final int WHEEL_SLIP_SAMPLES = 50;
+        public static final double ENCODER_DROPOUT_PROBABILITY = 0.0002;
+        public static final int ENCODER_DROPOUT_SAMPLES = 20;
+        // Radians per second, radians per square root of a second, and radians
+        public static final double IMU_BIAS_RATE = 0.0002;
+        public static final double IMU_RANDOM_WALK = 0.0005;
+        public static final double IMU_NOISE = 0.0005;
+        public static final double IMU_RESOLUTION = 0.0001;
+    }
+
     public static final class FIELD_CHARACTERISTICS 
     {
         public static final int FIELD_X_COORDINATE = 500;
@@ -12,6 +12,9 @@ package fundamentals;
  * 
  * @see
  * Note: Degrees are relative to the X-axis.
+ * 
+ * @see
+ * Note: A component's Coordinates are its Pose rounded to whole pixels and whole degrees; see Pose.
  */
 public class Coordinates 
 {
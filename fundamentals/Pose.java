@@ -0,0 +1,113 @@
+package fundamentals;
+
+/**
+ * A data structure that houses and describes the location and heading of a component in the window of the application with 
+ * double precision, so that components can be moved by fractions of a pixel and fractions of a degree. 
+ * 
+ * @see
+ * Note: Poses share the same frame as Coordinates; the point of origin is located at the upper-left corner of an application's 
+ * window, where left to right is the positive X-direction, and up to down is the positive Y-direction. 
+ * 
+ * @see
+ * Note: Headings are in radians relative to the X-axis, and positively increase for clockwise rotations. Headings are never wrapped, 
+ * so a component that has turned clockwise twice has a heading of 4 * PI. 
+ */
+public class Pose 
+{
+    private double x = 0;
+    private double y = 0;
+    private double heading = 0;
+
+    /**
+     * A data structure that houses and describes the location and heading of a component in the window of the application with 
+     * double precision. 
+     * 
+     * @param heading
+     * - The heading in radians relative to the X-axis; clockwise is positive. 
+     */
+    public Pose(double x, double y, double heading)
+    {
+        this.x = x;
+        this.y = y;
+        this.heading = heading;
+    }
+
+    /**
+     * Used to set a new pose. 
+     * 
+     * @param heading
+     * - The heading in radians relative to the X-axis; clockwise is positive. 
+     */
+    public void setPose(double x, double y, double heading)
+    {
+        this.x = x;
+        this.y = y;
+        this.heading = heading;
+    }
+
+    /**
+     * Used to copy the pose passed in. 
+     */
+    public void setPose(Pose pose)
+    {
+        setPose(pose.x, pose.y, pose.heading);
+    }
+
+    /**
+     * @return The X coordinate. 
+     */
+    public double getX()
+    {
+        return x;
+    }
+
+    /**
+     * @return The Y coordinate. 
+     */
+    public double getY()
+    {
+        return y;
+    }
+
+    /**
+     * @return The heading in radians relative to the X-axis. 
+     */
+    public double getHeading()
+    {
+        return heading;
+    }
+
+    /**
+     * @return The heading in degrees relative to the X-axis. 
+     */
+    public double getHeadingDegrees()
+    {
+        return Math.toDegrees(heading);
+    }
+
+    /**
+     * Sets this pose to a pose in between the two poses passed in. 
+     * 
+     * @param alpha
+     * - How far between the two poses to set this pose, within the interval: [0, 1]; 0 is the start pose and 1 is the end pose.
+     * 
+     * @see
+     * Note: The heading is interpolated the short way around, so a pose turning from just below 2 * PI to just above 0 never spins backwards. 
+     */
+    public void interpolate(Pose start, Pose end, double alpha)
+    {
+        interpolate(start.x, start.y, start.heading, end.x, end.y, end.heading, alpha);
+    }
+
+    /**
+     * Sets this pose to a pose in between the two poses described by the values passed in; see interpolate(Pose, Pose, double).
+     */
+    public void interpolate(double start_x, double start_y, double start_heading, double end_x, double end_y, double end_heading, double alpha)
+    {
+        double delta_heading = Math.IEEEremainder(end_heading - start_heading, 2 * Math.PI);
+
+        x = start_x + ((end_x - start_x) * alpha);
+        y = start_y + ((end_y - start_y) * alpha);
+        heading = start_heading + (delta_heading * alpha);
+    }
+}
@@ -0,0 +1,103 @@
+package fundamentals;
+
+/**
+ * The simulated clock of the application. SimClock only advances when tick() is called, and every tick advances the clock by exactly 
+ * one refresh period, so simulated time never drifts regardless of how long each tick actually took to run. Moreover, mechanics, 
+ * Delays, and anything else measuring time while the application runs should read time from SimClock rather than from the wall clock. 
+ * 
+ * @see
+ * Note: The refresh period is Constants.WINDOW_CHARACTERISTICS.REFRESH_RATE_MILLIS, and the clock is monotonic; it can never go backwards.
+ * 
+ * @see
+ * Note: Every World has its own SimClock. The methods without a World parameter act on the SimClock of the current World of the 
+ * thread calling them.
+ */
+public class SimClock 
+{
+    private static final long TICK_NANOS = Constants.WINDOW_CHARACTERISTICS.REFRESH_RATE_MILLIS * 1000000L;
+
+    /**
+     * The simulated time of a single World. 
+     */
+    public static final class State
+    {
+        private long elapsed_nanos = 0;
+        // Read by the AWT event thread when input is recorded
+        private volatile long tick_count = 0;
+    }
+
+    /**
+     * Advances the simulated clock of the current World by one refresh period. 
+     */
+    public static void tick()
+    {
+        tick(World.getCurrent());
+    }
+
+    /**
+     * Advances the simulated clock of the World passed in by one refresh period. This method is called once at the start of every 
+     * application tick by AppBase.
+     */
+    public static void tick(World world)
+    {
+        State state = world.getSimClockState();
+        state.elapsed_nanos += TICK_NANOS;
+        state.tick_count++;
+    }
+
+    /**
+     * @return The length of a single tick in nanoseconds; the refresh period.
+     */
+    public static long getTickNanos()
+    {
+        return TICK_NANOS;
+    }
+
+    /**
+     * @return The amount of ticks that have elapsed in the current World since the application began running. 
+     */
+    public static long getTickCount()
+    {
+        return getTickCount(World.getCurrent());
+    }
+
+    /**
+     * @return The amount of ticks that have elapsed in the World passed in. 
+     */
+    public static long getTickCount(World world)
+    {
+        return world.getSimClockState().tick_count;
+    }
+
+    /**
+     * @return The simulated time in nanoseconds that has elapsed in the current World since the application began running. 
+     */
+    public static long getElapsedNanos()
+    {
+        return getElapsedNanos(World.getCurrent());
+    }
+
+    /**
+     * @return The simulated time in nanoseconds that has elapsed in the World passed in. 
+     */
+    public static long getElapsedNanos(World world)
+    {
+        return world.getSimClockState().elapsed_nanos;
+    }
+
+    /**
+     * @return The simulated time in milliseconds that has elapsed in the current World since the application began running. 
+     */
+    public static int getElapsedMillis()
+    {
+        return getElapsedMillis(World.getCurrent());
+    }
+
+    /**
+     * @return The simulated time in milliseconds that has elapsed in the World passed in. 
+     */
+    public static int getElapsedMillis(World world)
+    {
+        return (int)(world.getSimClockState().elapsed_nanos / 1000000L);
+    }
+}
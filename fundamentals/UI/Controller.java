@@ -3,6 +3,7 @@ package fundamentals.UI;
 import java.util.LinkedList;
 import app.input.AppInput;
 import app.input.Button;
+import fundamentals.World;
 import fundamentals.mechanic.MechanicBase;
 
 /**
@@ -13,6 +14,7 @@ import fundamentals.mechanic.MechanicBase;
 public class Controller 
 {
     private final double CONTROLLER_ID = Math.random();
+    private final World world;
     private int current_instance_index = 0;
     private boolean active = false;
 
@@ -45,6 +47,19 @@ public class Controller
     
     public Controller(AppInput app_input, int left_key_id, int right_key_id, int up_key_id, int down_key_id)
     {
+        this(World.getCurrent(), app_input, left_key_id, right_key_id, up_key_id, down_key_id);
+    }
+
+    /**
+     * Utilizes multiple keyboard keys, exactly like Controller(AppInput, int, int, int, int), while being ran by the ControllerScheduler
+     * of the World passed in rather than that of the current World. 
+     * 
+     * @param world
+     * - The World whose ControllerScheduler runs the Controller's Buttons. 
+     */
+    public Controller(World world, AppInput app_input, int left_key_id, int right_key_id, int up_key_id, int down_key_id)
+    {
+        this.world = world;
         left_key = new Button(app_input, left_key_id);
         right_key = new Button(app_input, right_key_id);
         up_key = new Button(app_input, up_key_id);
@@ -87,6 +102,14 @@ public class Controller
         return CONTROLLER_ID;
     }
 
+    /**
+     * @return The World whose ControllerScheduler runs the Controller's Buttons.
+     */
+    public World getWorld()
+    {
+        return world;
+    }
+
     /**
      * @return The amount of buttons in a controller; there's four keys in a WASD format, and so there's four buttons.
      */
@@ -415,6 +438,17 @@ public class Controller
         down_key.whenPressed(mechanic);
     }
 
+    /**
+     * Runs each of the Controller's Buttons exactly once, in the order left, right, up, down.
+     */
+    public void runButtons()
+    {
+        for(Button button : buttons)
+        {
+            button.run();
+        }
+    }
+
     /**
      * Returns a different Button instance each time the method is called, and loops through the list of Button 
      * instances. Moreover, when the method is continuously called, and the run() method is called from each instance returned, 
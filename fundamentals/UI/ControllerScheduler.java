@@ -2,16 +2,29 @@ package fundamentals.UI;
 
 import java.util.LinkedList;
 
+import fundamentals.World;
+
 /**
  * Manages all Controller and Button variables through means of static methods. All instantiated Controllers that have been 
  * "registered" may have Button instances. Schedulers are used to periodically return different Controller instances to continuously 
  * call their Buttons' run() methods, allowing Controllers to operate apropriately. Moreover, allowing these run() methods 
  * to be accessed in AppBase.java to be looped for Controller functionality. 
+ * 
+ * @see
+ * Note: Every World has its own registered Controllers. Methods passed a Controller act on the Controller's World, methods passed a
+ * World act on that World, and the rest act on the current World of the calling thread.
  */
 public class ControllerScheduler 
 {
-    private static LinkedList<Controller> controllers = new LinkedList<Controller>();
-    private static int current_instance_index = 0;
+    /**
+     * The registered Controllers of a single World. 
+     */
+    public static final class State
+    {
+        private LinkedList<Controller> controllers = new LinkedList<Controller>();
+        private Controller[] tick_snapshot = new Controller[4];
+        private int current_instance_index = 0;
+    }
 
     /**
      * Given that a Controller's Buttons' run() method must be continuously called in order to function, the GUIScheduler needs to be able to
@@ -24,7 +37,7 @@ public class ControllerScheduler
     {
         if(controller != null)
         {
-            controllers.addLast(controller);
+            controller.getWorld().getControllerSchedulerState().controllers.addLast(controller);
         }
     }
 
@@ -37,16 +50,58 @@ public class ControllerScheduler
      */
     public static void removeController(Controller controller)
     {
-        for(int i = 0; i < controllers.size(); i++)
+        State state = controller.getWorld().getControllerSchedulerState();
+
+        for(int i = 0; i < state.controllers.size(); i++)
         {
-            if(controllers.get(i).getControllerID() == controller.getControllerID())
+            if(state.controllers.get(i).getControllerID() == controller.getControllerID())
             {
-                controllers.remove(i);
+                state.controllers.remove(i);
                 i--;
             }
         }
     }
 
+    /**
+     * Runs every Button of every registered Controller exactly once, in the order the Controllers were registered. Unlike 
+     * getControllerInstance(), which hands out one Controller per call, this method keeps every Button's response time at a 
+     * single tick no matter how many Controllers are registered. 
+     * 
+     * @see
+     * Note: This method is called once per tick by AppBase, after AppInput's snapshot for the tick has been captured.
+     * 
+     * @see
+     * Note: The registered Controllers are copied into a snapshot before any Buttons are ran, so Button mechanics that register or 
+     * remove Controllers mid-pass will not disturb the pass. Controllers registered mid-pass will first run on the next tick. 
+     */
+    public static void runControllers()
+    {
+        runControllers(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see runControllers(). 
+     */
+    public static void runControllers(World world)
+    {
+        State state = world.getControllerSchedulerState();
+        int snapshot_size = state.controllers.size();
+
+        if(state.tick_snapshot.length < snapshot_size)
+        {
+            state.tick_snapshot = new Controller[Math.max(snapshot_size, state.tick_snapshot.length * 2)];
+        }
+
+        state.tick_snapshot = state.controllers.toArray(state.tick_snapshot);
+
+        for(int i = 0; i < snapshot_size; i++)
+        {
+            Controller controller = state.tick_snapshot[i];
+            state.tick_snapshot[i] = null;
+            controller.runButtons();
+        }
+    }
+
     /**
      * Returns a different registered Controller instance each time the method is called, and loops through the list of registered
      * Controller instances. Moreover, when the method is continuously called, and the run() method is ran from each returned instance's 
@@ -57,19 +112,28 @@ public class ControllerScheduler
      */
     public static Controller getControllerInstance()
     {
+        return getControllerInstance(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getControllerInstance(). 
+     */
+    public static Controller getControllerInstance(World world)
+    {
+        State state = world.getControllerSchedulerState();
         Controller controller = null;
 
-        if(!controllers.isEmpty() && current_instance_index < controllers.size())
+        if(!state.controllers.isEmpty() && state.current_instance_index < state.controllers.size())
         {
-            controller = controllers.get(current_instance_index);
+            controller = state.controllers.get(state.current_instance_index);
         }
-        else if(!controllers.isEmpty())
+        else if(!state.controllers.isEmpty())
         {
-            controller = controllers.getFirst();
-            current_instance_index = 0;
+            controller = state.controllers.getFirst();
+            state.current_instance_index = 0;
         }
 
-        current_instance_index++;
+        state.current_instance_index++;
         return controller;
     }
 }
@@ -2,6 +2,7 @@ package fundamentals.UI.GUI;
 
 import java.util.LinkedList;
 
+import fundamentals.World;
 import fundamentals.UI.Controller;
 import fundamentals.appbase.AppBase;
 import fundamentals.mechanic.InstantMechanic;
@@ -28,7 +29,7 @@ public class GUI extends AppBase
     private GUIControllerConditions button_conditions = new GUIControllerConditions(true, true, true);
     private Controller GUI_controller = null;
 
-    private InstantMechanic down_key_mechanic = new InstantMechanic(() ->
+    private InstantMechanic down_key_mechanic = new InstantMechanic(getWorld(), () ->
     {
         if(getActivity() && button_conditions != null && button_conditions.getDownCondition())
         {
@@ -37,7 +38,7 @@ public class GUI extends AppBase
         }
     });
 
-    private InstantMechanic left_key_mechanic = new InstantMechanic(() ->
+    private InstantMechanic left_key_mechanic = new InstantMechanic(getWorld(), () ->
     {
         if(getActivity() && button_conditions != null && button_conditions.getLeftCondition())
         {
@@ -52,7 +53,7 @@ public class GUI extends AppBase
         }
     });
 
-    private InstantMechanic right_key_mechanic = new InstantMechanic(() ->
+    private InstantMechanic right_key_mechanic = new InstantMechanic(getWorld(), () ->
     {
         if(getActivity() && button_conditions != null && button_conditions.getRightCondition())
         {
@@ -108,6 +109,23 @@ public class GUI extends AppBase
      */
     public GUI(GUIOption... UI_options)
     {
+        this(World.getCurrent(), UI_options);
+    }
+
+    /**
+     *  The GUI, or Graphical User Interface, is a collection of GUIOption instances, that is ran within the World passed in rather 
+     *  than within the current World. 
+     * 
+     *  @param world
+     *  - The World whose GUIScheduler runs the GUI. 
+     * 
+     *  @param UI_options
+     *  - All of the options that will be included and controlled by the GUI. 
+     */
+    public GUI(World world, GUIOption... UI_options)
+    {
+        super(world);
+
         for(int i = 0; i < UI_options.length; i++)
         {
             UI_options[i].setParentGUI(this);
@@ -2,17 +2,29 @@ package fundamentals.UI.GUI;
 
 import java.util.LinkedList;
 
+import fundamentals.World;
+
 /**
  * Manages all GUI and GUIOption variables through means of static methods. All instantiated GUIs that have been 
  * "registered" may have GUIOption instances. Schedulers are used to periodically return different GUI instances to continuously 
  * call their GUIOptions' run() methods, allowing GUIs to operate apropriately. Moreover, allowing these run() methods 
  * to be accessed in AppBase.java to be looped for GUI functionality. 
+ * 
+ * @see
+ * Note: Every World has its own registered GUIs. Methods passed a GUI act on the GUI's World, methods passed a World act on that 
+ * World, and the rest act on the current World of the calling thread.
  */
 
 public class GUIScheduler 
 {
-    private static LinkedList<GUI> GUIs = new LinkedList<GUI>();
-    private static int current_instance_index = 0;
+    /**
+     * The registered GUIs of a single World. 
+     */
+    public static final class State
+    {
+        private LinkedList<GUI> GUIs = new LinkedList<GUI>();
+        private int current_instance_index = 0;
+    }
 
     /**
      * Given that a GUI's Buttons' run() method must be continuously called in order to function, the GUIScheduler needs to be able to
@@ -25,7 +37,7 @@ public class GUIScheduler
     {
         if(GUI != null)
         {
-            GUIs.addLast(GUI);
+            GUI.getWorld().getGUISchedulerState().GUIs.addLast(GUI);
         }
     }
 
@@ -38,11 +50,13 @@ public class GUIScheduler
      */
     protected static void removeGUI(GUI GUI)
     {
-        for(int i = 0; i < GUIs.size(); i++)
+        State state = GUI.getWorld().getGUISchedulerState();
+
+        for(int i = 0; i < state.GUIs.size(); i++)
         {
-            if(GUIs.get(i).getID() == GUI.getID())
+            if(state.GUIs.get(i).getID() == GUI.getID())
             {
-                GUIs.remove(i);
+                state.GUIs.remove(i);
             }
         }
     }
@@ -57,19 +71,28 @@ public class GUIScheduler
      */
     public static GUI getGUIInstance()
     {
+        return getGUIInstance(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getGUIInstance(). 
+     */
+    public static GUI getGUIInstance(World world)
+    {
+        State state = world.getGUISchedulerState();
         GUI GUI = null;
 
-        if(!GUIs.isEmpty() && current_instance_index < GUIs.size())
+        if(!state.GUIs.isEmpty() && state.current_instance_index < state.GUIs.size())
         {
-            GUI = GUIs.get(current_instance_index);
+            GUI = state.GUIs.get(state.current_instance_index);
         }
-        else if(!GUIs.isEmpty())
+        else if(!state.GUIs.isEmpty())
         {
-            GUI = GUIs.getFirst();
-            current_instance_index = 0;
+            GUI = state.GUIs.getFirst();
+            state.current_instance_index = 0;
         }
 
-        current_instance_index++;
+        state.current_instance_index++;
         return GUI;
     }
 }
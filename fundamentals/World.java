@@ -0,0 +1,125 @@
+package fundamentals;
+
+import app.input.AppInput;
+import fundamentals.UI.ControllerScheduler;
+import fundamentals.UI.GUI.GUIScheduler;
+import fundamentals.component.ComponentScheduler;
+import fundamentals.component.PoseStore;
+import fundamentals.mechanic.MechanicScheduler;
+
+/**
+ * An isolated simulation; a World owns its own SimClock, registered mechanics, registered Components and their poses, registered
+ * Controllers and GUIs, and the AppInput its Controllers read from. Applications, Components, mechanics, Controllers, and GUIs are
+ * each given a World when they're instantiated, and are only ever registered with, scheduled in, and timed by that World; so many
+ * Worlds can be simulated at once, each on its own thread, without ever seeing one another.
+ *
+ * @see
+ * Note: Anything instantiated without being given a World belongs to the current World of the thread instantiating it. Every thread
+ * begins in the default World, which is the World the on-screen application runs in, and can be moved into another World with
+ * setCurrent(...). Likewise, the static methods of the schedulers, SimClock, and PoseStore that aren't passed a World act on the 
+ * current World.
+ *
+ * @see
+ * Note: A World is not thread-safe; it must only be simulated by one thread at a time. Images are not part of a World, given that
+ * the ImageCache and RotatedImageCache are shared by every World.
+ */
+public class World
+{
+    private static final World default_world = new World();
+    private static final ThreadLocal<World> current_world = ThreadLocal.withInitial(() -> default_world);
+
+    private final SimClock.State sim_clock_state = new SimClock.State();
+    private final MechanicScheduler.State mechanic_scheduler_state = new MechanicScheduler.State();
+    private final ComponentScheduler.State component_scheduler_state = new ComponentScheduler.State();
+    private final PoseStore.State pose_store_state = new PoseStore.State();
+    private final ControllerScheduler.State controller_scheduler_state = new ControllerScheduler.State();
+    private final GUIScheduler.State GUI_scheduler_state = new GUIScheduler.State();
+    private final AppInput app_input = new AppInput();
+
+    /**
+     * @return The World of the thread calling this method.
+     */
+    public static World getCurrent()
+    {
+        return current_world.get();
+    }
+
+    /**
+     * @return The World that every thread begins in, and that the on-screen application runs in.
+     */
+    public static World getDefault()
+    {
+        return default_world;
+    }
+
+    /**
+     * Moves the thread calling this method into the World passed in.
+     *
+     * @param world
+     * - The World to move into, or null to move back into the default World.
+     *
+     * @return The World the thread was in beforehand, so that it can be restored once the thread is done with the World passed in.
+     */
+    public static World setCurrent(World world)
+    {
+        World previous_world = current_world.get();
+        current_world.set(world == null ? default_world : world);
+        return previous_world;
+    }
+
+    /**
+     * @return The state of this World's SimClock.
+     */
+    public SimClock.State getSimClockState()
+    {
+        return sim_clock_state;
+    }
+
+    /**
+     * @return The state of this World's MechanicScheduler.
+     */
+    public MechanicScheduler.State getMechanicSchedulerState()
+    {
+        return mechanic_scheduler_state;
+    }
+
+    /**
+     * @return The state of this World's ComponentScheduler.
+     */
+    public ComponentScheduler.State getComponentSchedulerState()
+    {
+        return component_scheduler_state;
+    }
+
+    /**
+     * @return The state of this World's PoseStore.
+     */
+    public PoseStore.State getPoseStoreState()
+    {
+        return pose_store_state;
+    }
+
+    /**
+     * @return The state of this World's ControllerScheduler.
+     */
+    public ControllerScheduler.State getControllerSchedulerState()
+    {
+        return controller_scheduler_state;
+    }
+
+    /**
+     * @return The state of this World's GUIScheduler.
+     */
+    public GUIScheduler.State getGUISchedulerState()
+    {
+        return GUI_scheduler_state;
+    }
+
+    /**
+     * @return The AppInput that every Controller in this World reads keyboard keys from. 
+     */
+    public AppInput getAppInput()
+    {
+        return app_input;
+    }
+}
@@ -1,27 +1,23 @@
 package fundamentals.animation;
 
-import javax.imageio.ImageIO;
-import javax.swing.ImageIcon;
-
-import fundamentals.Constants;
-
-import java.awt.image.*;
-import java.io.File;
-import java.io.IOException;
 import java.awt.*;
 
 /**
- *  Used to return Image, ImageIcon, and BufferedImage instances along with the dimensions of an image. 
+ *  Used to return Image instances along with the dimensions of an image. 
  * 
  * @see
  * Note: Can only utilize PNG and GIF file types. 
+ * 
+ * @see
+ * Note: Images are decoded once and shared through the ImageCache, so any amount of Animation instances may use the same image file.
  */
 public class Animation 
 {
     private String file_name = "";
+    private ImageCache.CachedImage cached_image = null;
 
     /**
-     * Used to return Image, ImageIcon, and BufferedImage instances along with the dimensions of an image. 
+     * Used to return Image instances along with the dimensions of an image. 
      * 
      * @param file_name
      * - The name of the image file. The String must include the file type.        
@@ -35,36 +31,34 @@ public class Animation
         this.file_name = file_name;
     }
 
-    /**
-     * @return A Image instance created from the image file specified in the constructor. 
-     */
-    public Image getAnimation()
+    private ImageCache.CachedImage getCachedImage()
     {
-       return new ImageIcon(getClass().getResource("/" + Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + file_name)).getImage();
+        if(cached_image == null)
+        {
+            cached_image = ImageCache.getImage(file_name);
+        }
+
+        return cached_image;
     }
 
     /**
-     * @return A ImageIcon instance created from the image file specified in the constructor. 
+     * @return A Image instance created from the image file specified in the constructor. 
      */
-    private ImageIcon getImageIcon()
-    {    
-        return new ImageIcon(Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + file_name);
+    public Image getAnimation()
+    {
+       return getCachedImage().getImage();
     }
 
     /**
-     * @return A BufferedImage instance created from the image file specified in the constructor. 
+     * @return The image specified in the constructor, pre-rotated clockwise by the degrees passed in, or null if the image can't be 
+     * pre-rotated or isn't rotated at all.
+     * 
+     * @see
+     * Note: Rotations are cached by the RotatedImageCache, so each whole degree of rotation is only ever rendered once while cached.
      */
-    private BufferedImage getBufferedImage()
+    public RotatedImageCache.RotatedImage getRotatedAnimation(int degrees)
     {
-        try
-        {
-            return ImageIO.read(new File(Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + file_name));
-        }
-        catch(IOException e) 
-        {
-            System.err.println("Animation.java: IOExeception caught!");
-            return null;
-        }
+        return getCachedImage().getRotatedImage(degrees);
     }
 
     /**
@@ -75,16 +69,7 @@ public class Animation
      */
     public int getImageWidth()
     {
-        if(file_name.contains(".png"))
-        {
-            return getBufferedImage().getWidth();  
-        }
-        else if(file_name.contains(".gif"))
-        {
-            return getImageIcon().getIconWidth();
-        }
-
-        return 0;
+        return getCachedImage().getWidth();
     }
 
     /**
@@ -95,16 +80,7 @@ public class Animation
      */
     public int getImageHeight()
     {
-        if(file_name.contains(".png"))
-        {
-            return getBufferedImage().getHeight();  
-        }
-        else if(file_name.contains(".gif"))
-        {
-            return getImageIcon().getIconHeight();
-        }
-
-        return 0;
+        return getCachedImage().getHeight();
     }
 
     /**
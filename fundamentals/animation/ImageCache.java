@@ -0,0 +1,159 @@
+package fundamentals.animation;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+import fundamentals.Constants;
+
+/**
+ * A process-wide cache of decoded images, shared by every Animation instance. Each image file is read and decoded only once, 
+ * the first time it's requested, and the decoded image is stored alongside its dimensions; every later request for the same 
+ * file returns the cached image without touching the disk. 
+ * 
+ * @see
+ * Note: Images are looked up by file name within the "assets/images/" root directory. PNG images are decoded with ImageIO, 
+ * while GIF images are loaded with ImageIcon so that animated GIFs keep animating.
+ * 
+ * @see
+ * Note: Decoded PNG images are converted once into the screen's compatible pixel format, with their transparency preserved, so drawing
+ * them never requires a per-draw format conversion and Java2D can keep an accelerated copy of them. When running headless, they're 
+ * converted into premultiplied ARGB instead.
+ */
+public class ImageCache 
+{
+    private static ConcurrentHashMap<String, CachedImage> images = new ConcurrentHashMap<String, CachedImage>();
+
+    /**
+     * A decoded image along with its dimensions. 
+     */
+    public static class CachedImage
+    {
+        private Image image = null;
+        private int width = 0;
+        private int height = 0;
+        // Indexed by degrees; filled in and evicted by the RotatedImageCache
+        RotatedImageCache.RotatedImage[] rotated_images = null;
+
+        private CachedImage(Image image, int width, int height)
+        {
+            this.image = image;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * @return The decoded image, or null if the image file could not be read. 
+         */
+        public Image getImage()
+        {
+            return image;
+        }
+
+        /**
+         * @return The width of the image in pixels, or zero if the image file could not be read.
+         */
+        public int getWidth()
+        {
+            return width;
+        }
+
+        /**
+         * @return The height of the image in pixels, or zero if the image file could not be read.
+         */
+        public int getHeight()
+        {
+            return height;
+        }
+
+        /**
+         * @return The image pre-rotated by the degrees passed in, or null if the image can't be pre-rotated; see RotatedImageCache.
+         */
+        public RotatedImageCache.RotatedImage getRotatedImage(int degrees)
+        {
+            return RotatedImageCache.getRotatedImage(this, degrees);
+        }
+    }
+
+    /**
+     * @return The cached image of the image file passed in, decoding the file first if it hasn't been requested before. 
+     * 
+     * @param file_name
+     * - The name of the image file, file type included. EX: "myImage.png"
+     */
+    public static CachedImage getImage(String file_name)
+    {
+        return images.computeIfAbsent(file_name, ImageCache::loadImage);
+    }
+
+    private static CachedImage loadImage(String file_name)
+    {
+        String path = Constants.FILE_ROOT_DIRECTORIES.IMAGE_ROOT_DIRECTORY + file_name;
+        URL resource = ImageCache.class.getResource("/" + path);
+
+        try
+        {
+            if(file_name.isEmpty())
+            {
+                return new CachedImage(null, 0, 0);
+            }
+            else if(file_name.contains(".gif"))
+            {
+                ImageIcon image_icon = resource != null ? new ImageIcon(resource) : new ImageIcon(path);
+                return new CachedImage(image_icon.getImage(), image_icon.getIconWidth(), image_icon.getIconHeight());
+            }
+
+            BufferedImage image = toCompatibleImage(resource != null ? ImageIO.read(resource) : ImageIO.read(new File(path)));
+            return new CachedImage(image, image.getWidth(), image.getHeight());
+        }
+        catch(IOException | NullPointerException e)
+        {
+            System.err.println("ImageCache.java: Caught exeception! Could not read the image file: " + file_name);
+            return new CachedImage(null, 0, 0);
+        }
+    }
+
+    private static BufferedImage toCompatibleImage(BufferedImage image)
+    {
+        if(!GraphicsEnvironment.isHeadless() && image.getColorModel().equals(GraphicsEnvironment.getLocalGraphicsEnvironment()
+        .getDefaultScreenDevice().getDefaultConfiguration().getColorModel(image.getTransparency())))
+        {
+            return image;
+        }
+
+        BufferedImage compatible_image = createCompatibleImage(image.getWidth(), image.getHeight(), image.getTransparency());
+        Graphics2D graphics_2d = compatible_image.createGraphics();
+        graphics_2d.drawImage(image, 0, 0, null);
+        graphics_2d.dispose();
+
+        return compatible_image;
+    }
+
+    /**
+     * @return A blank image in the screen's compatible pixel format, or in RGB or premultiplied ARGB when running headless.
+     * 
+     * @param transparency
+     * - One of Transparency.OPAQUE, Transparency.BITMASK, or Transparency.TRANSLUCENT.
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency)
+    {
+        if(!GraphicsEnvironment.isHeadless())
+        {
+            GraphicsConfiguration configuration = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+            return configuration.createCompatibleImage(width, height, transparency);
+        }
+
+        int image_type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE;
+        return new BufferedImage(width, height, image_type);
+    }
+}
@@ -0,0 +1,178 @@
+package fundamentals.animation;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import fundamentals.Constants;
+
+/**
+ * A cache of images that have been pre-rotated by whole degrees. The first time an image is requested at a rotation, it's rendered
+ * once into a new image large enough to hold the rotated image; afterwards, that rotation can be drawn with a plain copy rather than 
+ * a transformed, interpolated draw. 
+ * 
+ * @see
+ * Note: The cache is bounded by Constants.ANIMATION_CHARACTERISTICS.ROTATED_IMAGE_CACHE_MAX_BYTES, where each rotated image is 
+ * accounted for as four bytes per pixel. Once the bound is exceeded, the least recently drawn rotations are evicted first.
+ * 
+ * @see
+ * Note: Only decoded PNG images can be pre-rotated; animated GIFs must still be rotated as they're drawn.
+ */
+public class RotatedImageCache 
+{
+    private static LinkedHashMap<RotatedImage, RotatedImage> recently_used = new LinkedHashMap<RotatedImage, RotatedImage>(64, 0.75f, true);
+    private static long cached_bytes = 0;
+    private static long eviction_count = 0;
+
+    /**
+     * An image that has been pre-rotated, along with the offset from its center to its upper-left corner. 
+     */
+    public static class RotatedImage
+    {
+        private ImageCache.CachedImage source = null;
+        private int degrees = 0;
+        private BufferedImage image = null;
+        private int half_width = 0;
+        private int half_height = 0;
+
+        private RotatedImage(ImageCache.CachedImage source, int degrees, BufferedImage image)
+        {
+            this.source = source;
+            this.degrees = degrees;
+            this.image = image;
+            this.half_width = image.getWidth() / 2;
+            this.half_height = image.getHeight() / 2;
+        }
+
+        /**
+         * @return The pre-rotated image. 
+         */
+        public BufferedImage getImage()
+        {
+            return image;
+        }
+
+        /**
+         * @return The horizontal distance in pixels from the center of the rotated image to its left edge. 
+         */
+        public int getHalfWidth()
+        {
+            return half_width;
+        }
+
+        /**
+         * @return The vertical distance in pixels from the center of the rotated image to its top edge. 
+         */
+        public int getHalfHeight()
+        {
+            return half_height;
+        }
+
+        private long getBytes()
+        {
+            return 4L * image.getWidth() * image.getHeight();
+        }
+    }
+
+    /**
+     * @return The cached image rotated clockwise about its center by the degrees passed in, rendering and caching it first if needed.
+     * Null is returned if the image can't be pre-rotated, or if it's not rotated at all; the image should then be drawn normally.
+     * 
+     * @param cached_image
+     * - The image to rotate. 
+     * 
+     * @param degrees
+     * - The degrees to rotate the image by; any whole amount of degrees, positive or negative. 
+     */
+    public static synchronized RotatedImage getRotatedImage(ImageCache.CachedImage cached_image, int degrees)
+    {
+        int normalized_degrees = ((degrees % 360) + 360) % 360;
+
+        if(normalized_degrees == 0 || !(cached_image.getImage() instanceof BufferedImage))
+        {
+            return null;
+        }
+
+        if(cached_image.rotated_images == null)
+        {
+            cached_image.rotated_images = new RotatedImage[360];
+        }
+
+        RotatedImage rotated_image = cached_image.rotated_images[normalized_degrees];
+
+        if(rotated_image != null)
+        {
+            recently_used.get(rotated_image);
+            return rotated_image;
+        }
+
+        rotated_image = new RotatedImage(cached_image, normalized_degrees, renderRotatedImage((BufferedImage)cached_image.getImage(), normalized_degrees));
+        cached_image.rotated_images[normalized_degrees] = rotated_image;
+        recently_used.put(rotated_image, rotated_image);
+        cached_bytes += rotated_image.getBytes();
+        evictLeastRecentlyUsed();
+
+        return rotated_image;
+    }
+
+    private static BufferedImage renderRotatedImage(BufferedImage image, int degrees)
+    {
+        double radians = Math.toRadians(degrees);
+        double sin = Math.abs(Math.sin(radians));
+        double cos = Math.abs(Math.cos(radians));
+        int width = (int)Math.ceil(image.getWidth() * cos + image.getHeight() * sin);
+        int height = (int)Math.ceil(image.getWidth() * sin + image.getHeight() * cos);
+
+        BufferedImage rotated_image = ImageCache.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        Graphics2D graphics_2d = rotated_image.createGraphics();
+
+        graphics_2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics_2d.translate(width / 2, height / 2);
+        graphics_2d.rotate(radians);
+        graphics_2d.drawImage(image, -image.getWidth() / 2, -image.getHeight() / 2, null);
+        graphics_2d.dispose();
+
+        return rotated_image;
+    }
+
+    private static void evictLeastRecentlyUsed()
+    {
+        Iterator<RotatedImage> iterator = recently_used.keySet().iterator();
+
+        while(cached_bytes > Constants.ANIMATION_CHARACTERISTICS.ROTATED_IMAGE_CACHE_MAX_BYTES && iterator.hasNext())
+        {
+            RotatedImage rotated_image = iterator.next();
+            iterator.remove();
+            rotated_image.source.rotated_images[rotated_image.degrees] = null;
+            cached_bytes -= rotated_image.getBytes();
+            eviction_count++;
+        }
+    }
+
+    /**
+     * @return The amount of memory in bytes taken up by every cached rotated image. 
+     */
+    public static synchronized long getCachedBytes()
+    {
+        return cached_bytes;
+    }
+
+    /**
+     * @return The amount of rotated images currently cached. 
+     */
+    public static synchronized int getAmountOfCachedImages()
+    {
+        return recently_used.size();
+    }
+
+    /**
+     * @return The amount of rotated images that have been evicted to keep the cache within its memory bound. 
+     */
+    public static synchronized long getEvictionCount()
+    {
+        return eviction_count;
+    }
+}
@@ -2,42 +2,66 @@ package fundamentals.appbase;
 
 import java.awt.Image;
 import java.util.LinkedList;
+import java.util.concurrent.locks.LockSupport;
 
 import javax.swing.JFrame;
 
+import app.AppCanvas;
 import app.AppGraphics;
 import app.audio.AppAudio;
 import app.input.AppInput;
+import app.input.InputPlayer;
+import app.input.InputRecorder;
+import app.input.InputRecording;
 import fundamentals.Constants;
+import fundamentals.SimClock;
+import fundamentals.World;
 import fundamentals.UI.Controller;
 import fundamentals.UI.ControllerScheduler;
 import fundamentals.UI.GUI.GUI;
 import fundamentals.UI.GUI.GUIScheduler;
 import fundamentals.animation.Animation;
-import fundamentals.mechanic.MechanicBase;
+import fundamentals.component.ComponentScheduler;
 import fundamentals.mechanic.MechanicScheduler;
 
 /**
- * The base of every applictation. AppBase is what generates the application's window by using JFrame as its
- * superclass, while making use of AppGraphics, AppInput, AppAudio. Furthermore, every application is a program that
+ * The base of every applictation. AppBase is what generates the application's window by using a JFrame, while making use 
+ * of AppGraphics, AppInput, AppAudio. Furthermore, every application is a program that
  * contiuously loops until the window is closed, and so AppBase is responsible for continuously running GUIs, Controllers,
  * Mechanics, and Components from their respective Scheduler classes. Moreover, AppBase must be extended as the superclass
  * of App.java & AppContainer.java to return Controller instances, run app audio, and to determine the application's current
  * status. 
+ * 
+ * @see
+ * Note: The application can also be ran headless with startHeadlessApp(...), in which case the window is never created.
+ * For that reason, AppBase is not itself a JFrame, given that a JFrame can't be instantiated on a machine without a display; the 
+ * application's window is created by startApp() and is returned by getWindow(), so JFrame methods must be called on that window.
+ * 
+ * @see
+ * Note: An application runs in the World passed into its constructor, or in the World that was current when it was constructed. 
+ * Applications of separate Worlds can be ran side by side, each on its own thread.
  */
-public class AppBase extends JFrame implements AppInterface
+public class AppBase implements AppInterface
 {
     private LinkedList<Image> icons = new LinkedList<Image>();
     private int current_icon_index = 0;
+    private long dropped_ticks = 0;
 
-    private AppGraphics app_graphics = new AppGraphics();
-    private static AppInput app_input = new AppInput();
+    private JFrame app_window = null;
+    private AppGraphics app_graphics = null;
+    private AppCanvas app_canvas = null;
+    private final World world;
+    private AppInput app_input = null;
     private static AppAudio app_audio = new AppAudio();
+    private InputPlayer input_player = null;
+    private InputRecorder input_recorder = null;
+    private PhaseTimer phase_timer = new PhaseTimer();
     
     private prioritizedAppStatus prev_app_status = null;
     private prioritizedAppStatus app_status = null;
     
     private boolean determined_app_status = false;
+    private boolean sampled_initial_sensors = false;
 
     private interface prioritizedAppStatus
     {
@@ -46,6 +70,27 @@ public class AppBase extends JFrame implements AppInterface
         public int getStatusID();
     };
 
+    /**
+     * Creates an application that runs in the current World of the thread instantiating it. 
+     */
+    public AppBase()
+    {
+        this(World.getCurrent());
+    }
+
+    /**
+     * Creates an application that runs in the World passed in. Its Controllers read from the World's AppInput, and every tick 
+     * advances the World's SimClock and runs the World's Controllers, mechanics, Components, and GUIs. 
+     * 
+     * @param world
+     * - The World to run the application in. 
+     */
+    public AppBase(World world)
+    {
+        this.world = world;
+        app_input = world.getAppInput();
+    }
+
     private void prepareAppIcon()
     {
         for(int i = 0; i < Constants.WINDOW_CHARACTERISTICS.APP_ICON_IMAGES.length; i++)
@@ -56,9 +101,9 @@ public class AppBase extends JFrame implements AppInterface
 
     private void updateIconImage(int update_delay_millis)
     {
-        if(MechanicScheduler.getElapsedMillis() % update_delay_millis == 0)
+        if(app_window != null && SimClock.getElapsedMillis(world) % update_delay_millis == 0)
         {
-            super.setIconImage(icons.get(current_icon_index));
+            app_window.setIconImage(icons.get(current_icon_index));
             current_icon_index++;
             
             if(current_icon_index >= icons.size())
@@ -70,20 +115,168 @@ public class AppBase extends JFrame implements AppInterface
 
     /**
      * Must be called once to begin running the application. 
+     * 
+     * @see
+     * Note: The application runs on a fixed timestep. Wall time measured with System.nanoTime() is accumulated, and one tick is ran for
+     * every refresh period accumulated, so the application ticks at the refresh rate on average even when a tick runs late. After a 
+     * stall, at most MAX_CATCH_UP_TICKS ticks are ran back-to-back, and any remaining backlog is dropped. 
+     * 
+     * @see
+     * Note: Frames are rendered at most FRAME_RATE_CAP times per second, independent of the refresh rate. When rendering actively, 
+     * frames are rendered on their own render thread; otherwise, this loop asks Swing to repaint at the frame rate cap. Either way,
+     * frames are drawn from the SceneSnapshot published at the end of each tick, so rendering never reads Components mid-tick.
      */
     public void startApp()
     {
+        // Anything created by the application's status methods on this thread belongs to the application's World
+        World.setCurrent(world);
         appBaseInit();
 
+        long tick_nanos = SimClock.getTickNanos();
+        long frame_nanos = 1000000000L / Constants.WINDOW_CHARACTERISTICS.FRAME_RATE_CAP;
+        long accumulated_nanos = 0;
+        long previous_nanos = System.nanoTime();
+        long next_frame_nanos = previous_nanos;
+
+        if(app_canvas != null)
+        {
+            startRenderThread(frame_nanos);
+        }
+
         while(true)
         {
-            try
+            long current_nanos = System.nanoTime();
+            accumulated_nanos += current_nanos - previous_nanos;
+            previous_nanos = current_nanos;
+
+            for(int i = 0; accumulated_nanos >= tick_nanos && i < Constants.WINDOW_CHARACTERISTICS.MAX_CATCH_UP_TICKS; i++)
             {
                 appBasePeriodic();
-                Thread.sleep(Constants.WINDOW_CHARACTERISTICS.REFRESH_RATE_MILLIS);
+                accumulated_nanos -= tick_nanos;
+            }
+
+            if(accumulated_nanos >= tick_nanos)
+            {
+                dropped_ticks += accumulated_nanos / tick_nanos;
+                accumulated_nanos %= tick_nanos;
+            }
+
+            if(app_canvas == null && System.nanoTime() - next_frame_nanos >= 0)
+            {
+                renderFrame();
+                next_frame_nanos = Math.max(next_frame_nanos + frame_nanos, System.nanoTime() - frame_nanos);
+            }
+
+            if(app_canvas == null)
+            {
+                LockSupport.parkNanos(Math.min(tick_nanos - accumulated_nanos, next_frame_nanos - System.nanoTime()));
+            }
+            else
+            {
+                LockSupport.parkNanos(tick_nanos - accumulated_nanos);
+            }
+        }
+    }
+
+    // Renders frames into the AppCanvas at the frame rate cap on a daemon thread, so rendering never delays a tick.
+    private void startRenderThread(long frame_nanos)
+    {
+        Thread render_thread = new Thread(() ->
+        {
+            long next_frame_nanos = System.nanoTime();
+
+            while(true)
+            {
+                renderFrame();
+                next_frame_nanos = Math.max(next_frame_nanos + frame_nanos, System.nanoTime() - frame_nanos);
+                LockSupport.parkNanos(next_frame_nanos - System.nanoTime());
             }
-            catch(InterruptedException e) {}
+        }, "AppBase render thread");
+
+        render_thread.setDaemon(true);
+        render_thread.start();
+    }
+
+    /**
+     * Renders one frame, either actively into the AppCanvas's BufferStrategy or by asking Swing to repaint AppGraphics, depending
+     * on Constants.WINDOW_CHARACTERISTICS.ACTIVE_RENDERING. 
+     */
+    private void renderFrame()
+    {
+        long render_start_nanos = System.nanoTime();
+
+        if(app_canvas != null)
+        {
+            app_canvas.renderFrame();
+        }
+        else if(app_graphics != null)
+        {
+            app_graphics.repaint();
         }
+
+        phase_timer.record(PhaseTimer.Phase.RENDER, render_start_nanos);
+    }
+
+    /**
+     * Runs the application without a window for the amount of ticks passed in, and then returns. Ticks are ran back-to-back as fast 
+     * as possible rather than at the refresh rate, while the SimClock still advances by one refresh period per tick; so mechanics,
+     * Controllers, and GUIs behave exactly as they would on-screen, only faster than real-time. 
+     * 
+     * @param tick_count
+     * - The amount of ticks to run. The amount of simulated time ran is tick_count multiplied by the refresh period.
+     * 
+     * @see
+     * Note: No JFrame, AppGraphics, or app icons are ever created, so this method can be used on machines without a display.
+     * The calling thread is moved into the application's World while the ticks are ran, and moved back afterwards.
+     * 
+     * @see
+     * Note: Without a window no keyboard input is received, so recording input with recordInput(...) while headless only ever 
+     * writes an empty recording; a warning is printed if input is being recorded. 
+     */
+    public void startHeadlessApp(long tick_count)
+    {
+        if(input_recorder != null)
+        {
+            System.err.println("AppBase.java: Recording keyboard input while headless exeception! The recording will be empty. ");
+        }
+
+        World previous_world = World.setCurrent(world);
+
+        try
+        {
+            for(long i = 0; i < tick_count; i++)
+            {
+                appBasePeriodic();
+            }
+        }
+        finally
+        {
+            World.setCurrent(previous_world);
+        }
+    }
+
+    /**
+     * @return The application's window, or null if the application hasn't been started with startApp(), or is being ran headless.
+     */
+    public JFrame getWindow()
+    {
+        return app_window;
+    }
+
+    /**
+     * @return The World the application runs in.
+     */
+    public World getWorld()
+    {
+        return world;
+    }
+
+    /**
+     * @return The amount of ticks that were skipped because the application fell too far behind the refresh rate to catch up. 
+     */
+    public long getDroppedTicks()
+    {
+        return dropped_ticks;
     }
 
     /**
@@ -92,17 +285,62 @@ public class AppBase extends JFrame implements AppInterface
     private void appBaseInit()
     {
         prepareAppIcon();
+        app_window = new JFrame();
+        app_graphics = new AppGraphics(world);
         
-        super.setSize(Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT);
-        super.setResizable(false);
-        super.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        super.setTitle(Constants.WINDOW_CHARACTERISTICS.APP_TITLE);
-        super.setIconImage(icons.getLast());
-        super.setLocationRelativeTo(null);
-        super.setVisible(true);
+        app_window.setSize(Constants.WINDOW_CHARACTERISTICS.WINDOW_WIDTH, Constants.WINDOW_CHARACTERISTICS.WINDOW_HEIGHT);
+        app_window.setResizable(false);
+        app_window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        app_window.setTitle(Constants.WINDOW_CHARACTERISTICS.APP_TITLE);
+        app_window.setIconImage(icons.getLast());
+        app_window.setLocationRelativeTo(null);
+        app_window.setVisible(true);
         
-        super.add(app_graphics);
-        super.addKeyListener(app_input.getKeyListener());
+        if(Constants.WINDOW_CHARACTERISTICS.ACTIVE_RENDERING)
+        {
+            app_canvas = new AppCanvas(app_graphics);
+            app_window.setIgnoreRepaint(true);
+            app_window.add(app_canvas);
+        }
+        else
+        {
+            app_window.add(app_graphics);
+        }
+
+        app_window.validate();
+        app_window.addKeyListener(app_input.getKeyListener());
+
+        if(input_recorder != null)
+        {
+            app_window.addKeyListener(input_recorder);
+        }
+    }
+
+    /**
+     * Plays back a recording of keyboard input, injecting each recorded key event into AppInput at the tick it was recorded on.
+     * This works both on-screen and headless, and must be called before the application is started. 
+     * 
+     * @param file_name
+     * - The path of the recording file to play back; a file written by recordInput(...). 
+     */
+    public void playInput(String file_name)
+    {
+        input_player = new InputPlayer(app_input, InputRecording.load(file_name));
+    }
+
+    /**
+     * Records all keyboard input from the application's window, stamped with the tick each event occurred on. The recording is 
+     * written to the file passed in once the application exits. This must be called before the application is started, and is only
+     * useful on-screen; a headless application has no window to receive keyboard input from.
+     * 
+     * @param file_name
+     * - The path of the recording file to write. 
+     */
+    public void recordInput(String file_name)
+    {
+        input_recorder = new InputRecorder(world);
+        InputRecording recording = input_recorder.getRecording();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> recording.save(file_name)));
     }
 
     /**
@@ -212,23 +450,17 @@ public class AppBase extends JFrame implements AppInterface
      */
     public Controller getController(int left_key_id, int right_key_id, int up_key_id, int down_key_id)
     {
-        return new Controller(app_input, left_key_id, right_key_id, up_key_id, down_key_id);
+        return new Controller(world, app_input, left_key_id, right_key_id, up_key_id, down_key_id);
     }
 
     private void runMechanics()
     {
-        MechanicBase mechanic = MechanicScheduler.getInstance();
-        //MechanicScheduler.interruptSimultaneousComponentUtilization();
-
-        if(mechanic != null)
-        {
-            mechanic.run();
-        }
+        MechanicScheduler.runMechanics(world);
     }
 
     private void runGUIs()
     {
-        GUI GUI = GUIScheduler.getGUIInstance(); 
+        GUI GUI = GUIScheduler.getGUIInstance(world); 
 
         for(int i = 0; GUI != null && i < GUI.getAmountOfOptions(); i++)
         {
@@ -238,19 +470,43 @@ public class AppBase extends JFrame implements AppInterface
 
     private void runControllers()
     {
-        Controller controller = ControllerScheduler.getControllerInstance();
-
-        for(int i = 0; controller != null && i < controller.getAmountOfButtons(); i++)
+        if(input_player != null)
         {
-            controller.getButtonInstance().run();
+            input_player.update(SimClock.getTickCount(world));
         }
+
+        app_input.captureSnapshot();
+        ControllerScheduler.runControllers(world);
+    }
+
+    /**
+     * @return The PhaseTimer that measures how long each phase of the application's ticks takes to run, along with how long each 
+     * frame takes to render and how many frames have been rendered. 
+     */
+    public PhaseTimer getPhaseTimer()
+    {
+        return phase_timer;
     }
 
     // Periodically called by app refresh rate (tick system)
+    // Input is read first so that the app status and mechanics react to it within the same tick
+    // Sensors are sampled last, once every Component has moved, so every sample sees the whole tick's movement
     private void appBasePeriodic()
     {
+        if(!sampled_initial_sensors)
+        {
+            sampled_initial_sensors = true;
+            sampleSensors();
+        }
+
         try
         {
+            SimClock.tick(world);
+            long phase_start_nanos = System.nanoTime();
+
+            runControllers();
+            phase_start_nanos = phase_timer.record(PhaseTimer.Phase.INPUT, phase_start_nanos);
+
             updateIconImage(1000);
             determineAppStatus();
 
@@ -260,11 +516,19 @@ public class AppBase extends JFrame implements AppInterface
             }
 
             app_status.prioritizedPeriodic();
+            phase_start_nanos = phase_timer.record(PhaseTimer.Phase.STATUS, phase_start_nanos);
+
             runMechanics();
+            ComponentScheduler.integratePoses(world, SimClock.getTickNanos() / 1e9);
+            sampleSensors();
+            phase_start_nanos = phase_timer.record(PhaseTimer.Phase.MECHANICS, phase_start_nanos);
+
             runGUIs();
-            runControllers();
+            phase_timer.record(PhaseTimer.Phase.GUIS, phase_start_nanos);
         }
         catch(NullPointerException e) {}
+
+        ComponentScheduler.publishSceneSnapshot(world);
     }
 
     /**
@@ -298,6 +562,7 @@ public class AppBase extends JFrame implements AppInterface
     public boolean getAppStatus() { return determined_app_status; }
     @Override public void appInit() {}
     @Override public void appPeriodic() {}
+    @Override public void sampleSensors() {}
  
     /**
      * This method enables the application to possess the "app status" as a program state. This is most useful when
@@ -24,4 +24,15 @@ public interface AppInterface
      * Continuously called after the "menu status" has become the application's current status. 
      */
     public void appPeriodic();
+
+    /**
+     * Called once at the end of every tick, after every mechanic has ran and every Component's pose has been integrated, regardless 
+     * of the application's current status. Moreover, this method is also called once before the first tick, so sensors can record 
+     * the starting state of the application before anything moves. 
+     * 
+     * @see
+     * Note: Meant to be overriden to sample simulated sensors, such as a TrackingWheelOdometry, so that every sample is taken at 
+     * the same point of the tick and sees every movement of the tick it's taken on. 
+     */
+    public void sampleSensors();
 }
@@ -0,0 +1,102 @@
+package fundamentals.appbase;
+
+/**
+ * Measures how long each phase of an application tick takes to run. Every AppBase owns a PhaseTimer, and AppBase records the
+ * duration of each phase once per tick; the latest, average, and longest durations of each phase can then be read at any time. 
+ * Rendering is timed as its own phase, once per rendered frame rather than once per tick.
+ * 
+ * @see
+ * Note: Durations are measured with System.nanoTime(), and all durations are in nanoseconds.
+ */
+public class PhaseTimer 
+{
+    /**
+     * The phases of an application tick, in the order they're ran, followed by rendering. 
+     */
+    public enum Phase
+    {
+        INPUT,
+        STATUS,
+        MECHANICS,
+        GUIS,
+        RENDER
+    }
+
+    private long[] latest_nanos = new long[Phase.values().length];
+    private long[] total_nanos = new long[Phase.values().length];
+    private long[] max_nanos = new long[Phase.values().length];
+    private long[] sample_counts = new long[Phase.values().length];
+
+    /**
+     * Records the duration of a phase that began at the time passed in and ended now. 
+     * 
+     * @param phase
+     * - The phase that just ended. 
+     * 
+     * @param start_nanos
+     * - The System.nanoTime() timestamp of when the phase began. 
+     * 
+     * @return The current System.nanoTime() timestamp, which can be passed in as the start of the next phase. 
+     */
+    public long record(Phase phase, long start_nanos)
+    {
+        long end_nanos = System.nanoTime();
+        long duration_nanos = end_nanos - start_nanos;
+        int index = phase.ordinal();
+
+        latest_nanos[index] = duration_nanos;
+        total_nanos[index] += duration_nanos;
+        max_nanos[index] = Math.max(max_nanos[index], duration_nanos);
+        sample_counts[index]++;
+
+        return end_nanos;
+    }
+
+    /**
+     * @return How long the phase took the last time it was ran. 
+     */
+    public long getLatestNanos(Phase phase)
+    {
+        return latest_nanos[phase.ordinal()];
+    }
+
+    /**
+     * @return How long the phase has taken on average since the PhaseTimer was created or last reset. 
+     */
+    public long getAverageNanos(Phase phase)
+    {
+        int index = phase.ordinal();
+        return sample_counts[index] == 0 ? 0 : total_nanos[index] / sample_counts[index];
+    }
+
+    /**
+     * @return The longest the phase has taken since the PhaseTimer was created or last reset. 
+     */
+    public long getMaxNanos(Phase phase)
+    {
+        return max_nanos[phase.ordinal()];
+    }
+
+    /**
+     * @return How many times the phase has been ran since the PhaseTimer was created or last reset. For RENDER, this is the amount
+     * of frames rendered. 
+     */
+    public long getSampleCount(Phase phase)
+    {
+        return sample_counts[phase.ordinal()];
+    }
+
+    /**
+     * Clears all recorded durations. 
+     */
+    public void reset()
+    {
+        for(int i = 0; i < sample_counts.length; i++)
+        {
+            latest_nanos[i] = 0;
+            total_nanos[i] = 0;
+            max_nanos[i] = 0;
+            sample_counts[i] = 0;
+        }
+    }
+}
@@ -3,8 +3,12 @@ package fundamentals.component;
 import java.util.LinkedList;
 import java.awt.*;
 
+import fundamentals.Constants;
 import fundamentals.Coordinates;
+import fundamentals.Pose;
+import fundamentals.World;
 import fundamentals.animation.Animation;
+import fundamentals.animation.RotatedImageCache;
 
 /**
  * The superclass to every app component. ComponentBase allows component classes to inherit methods for setting its image's
@@ -14,15 +18,50 @@ import fundamentals.animation.Animation;
  * @see
  * Note: When ComponentBase is used as a superclass and it is extended to a sublcass, that component subclass will immediately create 
  * its image on screen upon instantiation.   
+ * 
+ * @see
+ * Note: Every component belongs to a single World; by default, the World that was current when the component was instantiated. 
+ * Components of other Worlds can be instantiated by calling the ComponentBase(World) constructor from a subclass's constructor.
  */
 public class ComponentBase 
 {
     private final double COMPONENT_ID = Math.random();
+    private final World world;
     private LinkedList<Animation> animations = new LinkedList<Animation>();
     private Animation current_animation = new Animation("");
+    // The pose is authoritative, and lives in the PoseStore while the component is registered; the coordinates are always the 
+    // pose rounded to whole pixels and whole degrees
+    private Pose pose = new Pose(0, 0, 0);
+    private Pose previous_pose = new Pose(0, 0, 0);
+    private double velocity_x = 0;
+    private double velocity_y = 0;
+    private double angular_velocity = 0;
     private Coordinates coordinates = new Coordinates(0, 0, 0);
     private double opacity_pct = 1.0;
     private boolean active = false;
+    private int component_index = -1;
+    private boolean is_static = false;
+    private Rectangle bounds = new Rectangle();
+    private Rectangle previous_bounds = new Rectangle();
+
+    /**
+     * Creates a component that belongs to the current World of the thread instantiating it. 
+     */
+    public ComponentBase()
+    {
+        this(World.getCurrent());
+    }
+
+    /**
+     * Creates a component that belongs to the World passed in. 
+     * 
+     * @param world
+     * - The World the component is registered with, and whose PoseStore holds the component's pose. 
+     */
+    public ComponentBase(World world)
+    {
+        this.world = world;
+    }
 
     /**
      * Once ComponentBase has been extended and become a superclass to a sublcass, the subclass must call 
@@ -38,7 +77,8 @@ public class ComponentBase
     public void addRequirements(int x, int y, int degrees, Animation... animations)
     {
         current_animation = animations[0];
-        coordinates.setCoordinates(x, y, degrees);
+        setCoordinates(x, y, degrees);
+        previous_pose.setPose(pose);
 
         for(int i = 0; i < animations.length; i++)
         {
@@ -62,6 +102,7 @@ public class ComponentBase
             if(animations.get(i).getName() == animation_name)
             {
                 current_animation = animations.get(i);
+                invalidateStaticLayer();
             }
         }
     }
@@ -78,6 +119,7 @@ public class ComponentBase
     public void setOpacity(double pct)
     {
         opacity_pct = pct;
+        invalidateStaticLayer();
     }
 
     /**
@@ -102,31 +144,267 @@ public class ComponentBase
         if(!this.active && active)
         {
             this.active = true;
+            invalidateStaticLayer();
             //ComponentScheduler.registerComponent(this);
         }
         else if(this.active & !active)
         {
             this.active = false; 
+            invalidateStaticLayer();
             //ComponentScheduler.removeComponent(this);
         }
     }
 
+    /**
+     * Marks the component as static or not. Static components are drawn once into a background layer that is reused every frame, 
+     * and the layer is only redrawn when a static component changes; this suits large components that never move, such as a field.
+     * 
+     * @see
+     * Note: Static components are always drawn beneath every component that isn't static. 
+     * 
+     * @see
+     * Note: Static components must only be changed through ComponentBase's setters, such as setCoordinates(...).
+     */
+    public void setStatic(boolean is_static)
+    {
+        if(this.is_static != is_static)
+        {
+            this.is_static = is_static;
+            ComponentScheduler.invalidateStaticLayer(world);
+        }
+    }
+
+    /**
+     * @return Whether or not the component is static, and drawn into the background layer. 
+     */
+    public boolean isStatic()
+    {
+        return is_static;
+    }
+
+    /**
+     * Recalculates the component's on-screen bounding box from its coordinates, rotation, and current animation/image, keeping the 
+     * bounding box it had before as its previous bounding box. The component's current pose is also kept as its previous pose, 
+     * which the renderer interpolates from during the next tick; while the component is registered, the PoseStore does this instead.
+     * 
+     * @see
+     * Note: This method is called by the ComponentScheduler for every Component at the end of every tick, once the tick's 
+     * SceneSnapshot has read the component's previous pose. 
+     */
+    protected void endTick()
+    {
+        Coordinates current_coordinates = getCoordinates();
+        previous_bounds.setBounds(bounds);
+        calculateBounds(bounds, current_coordinates.getX(), current_coordinates.getY(), current_coordinates.getDegrees(), getWidth(), getHeight());
+
+        if(!usesPoseStore())
+        {
+            previous_pose.setPose(pose);
+        }
+    }
+
+    /**
+     * Advances the component's pose by its velocity over the amount of seconds passed in. 
+     * 
+     * @see
+     * Note: This method is only called by the ComponentScheduler when the PoseStore is disabled; otherwise, the PoseStore advances
+     * every registered component's pose at once. 
+     */
+    protected void integrate(double delta_seconds)
+    {
+        if(velocity_x != 0 || velocity_y != 0 || angular_velocity != 0)
+        {
+            setPose(pose.getX() + (velocity_x * delta_seconds), pose.getY() + (velocity_y * delta_seconds), 
+            pose.getHeading() + (angular_velocity * delta_seconds));
+        }
+    }
+
+    /**
+     * Sets the Rectangle passed in to the smallest on-screen rectangle that contains an image of the dimensions passed in, 
+     * centered on the coordinates passed in and rotated by the degrees passed in. 
+     * 
+     * @see
+     * Note: Unit of measurement: Pixels. One pixel of padding is added on every side to cover pixels touched by interpolation 
+     * along the rotated image's edges. 
+     */
+    public static void calculateBounds(Rectangle bounds, int x, int y, int degrees, int image_width, int image_height)
+    {
+        double radians = Math.toRadians(degrees);
+        double sin = Math.abs(Math.sin(radians));
+        double cos = Math.abs(Math.cos(radians));
+        int width = (int)Math.ceil(image_width * cos + image_height * sin) + 2;
+        int height = (int)Math.ceil(image_width * sin + image_height * cos) + 2;
+
+        bounds.setBounds(x - (width / 2), y - (height / 2), width, height);
+    }
+
+    /**
+     * @return The smallest on-screen rectangle that contains the component's rotated image as of the end of the latest tick.
+     * 
+     * @see
+     * Note: Unit of measurement: Pixels. The Rectangle returned is the component's own, and must not be changed. 
+     */
+    public Rectangle getBounds()
+    {
+        return bounds;
+    }
+
+    /**
+     * @return The component's bounding box as of the end of the tick before the latest tick; see getBounds().
+     */
+    public Rectangle getPreviousBounds()
+    {
+        return previous_bounds;
+    }
+
+    private void invalidateStaticLayer()
+    {
+        if(is_static)
+        {
+            ComponentScheduler.invalidateStaticLayer(world);
+        }
+    }
+
     /**
      *  Sets the component's coordinates.
      */
     public void setCoordinates(int x, int y, int degrees)
     {
-        coordinates.setCoordinates(x, y, degrees);
+        setPose(x, y, Math.toRadians(degrees));
     }
 
     /**
-     * @return The component's coordinates. 
+     * Sets the component's pose, which can describe fractions of a pixel and fractions of a degree. The component's coordinates
+     * are set to the pose rounded to whole pixels and whole degrees. 
+     * 
+     * @param heading
+     * - The heading in radians relative to the X-axis; clockwise is positive. 
+     */
+    public void setPose(double x, double y, double heading)
+    {
+        if(usesPoseStore())
+        {
+            PoseStore.setPose(world, component_index, x, y, heading);
+        }
+        else
+        {
+            pose.setPose(x, y, heading);
+        }
+
+        invalidateStaticLayer();
+    }
+
+    /**
+     * @return The component's pose. 
+     * 
+     * @see
+     * Note: The Pose returned is the component's own, and must not be changed; setPose(...) must be used instead. While the 
+     * component is registered, the Pose returned is a copy of the component's pose in the PoseStore as of this call.
+     */
+    public Pose getPose()
+    {
+        if(usesPoseStore())
+        {
+            pose.setPose(PoseStore.getX(world, component_index), PoseStore.getY(world, component_index), 
+            PoseStore.getTheta(world, component_index));
+        }
+
+        return pose;
+    }
+
+    /**
+     * @return The component's pose as of the end of the latest tick; see getPose(). 
+     */
+    public Pose getPreviousPose()
+    {
+        if(usesPoseStore())
+        {
+            previous_pose.setPose(PoseStore.getPreviousX(world, component_index), PoseStore.getPreviousY(world, component_index), 
+            PoseStore.getPreviousTheta(world, component_index));
+        }
+
+        return previous_pose;
+    }
+
+    /**
+     * Sets the component's velocity; the component's pose is advanced by its velocity once every tick. 
+     * 
+     * @param velocity_x
+     * - The velocity in the X-direction in pixels per second. 
+     * 
+     * @param velocity_y
+     * - The velocity in the Y-direction in pixels per second. 
+     * 
+     * @param angular_velocity
+     * - The angular velocity in radians per second; clockwise is positive. 
+     */
+    public void setVelocity(double velocity_x, double velocity_y, double angular_velocity)
+    {
+        if(usesPoseStore())
+        {
+            PoseStore.setVelocity(world, component_index, velocity_x, velocity_y, angular_velocity);
+        }
+        else
+        {
+            this.velocity_x = velocity_x;
+            this.velocity_y = velocity_y;
+            this.angular_velocity = angular_velocity;
+        }
+    }
+
+    /**
+     * @return The component's velocity in the X-direction in pixels per second. 
+     */
+    public double getVelocityX()
+    {
+        return usesPoseStore() ? PoseStore.getVelocityX(world, component_index) : velocity_x;
+    }
+
+    /**
+     * @return The component's velocity in the Y-direction in pixels per second. 
+     */
+    public double getVelocityY()
+    {
+        return usesPoseStore() ? PoseStore.getVelocityY(world, component_index) : velocity_y;
+    }
+
+    /**
+     * @return The component's angular velocity in radians per second. 
+     */
+    public double getAngularVelocity()
+    {
+        return usesPoseStore() ? PoseStore.getAngularVelocity(world, component_index) : angular_velocity;
+    }
+
+    // Registered components keep their pose and velocity in the PoseStore, unless the PoseStore is disabled
+    private boolean usesPoseStore()
+    {
+        return component_index >= 0 && Constants.COMPONENT_CHARACTERISTICS.USE_POSE_STORE;
+    }
+
+    /**
+     * @return The component's coordinates; the component's pose rounded to whole pixels and whole degrees.
+     * 
+     * @see
+     * Note: The Coordinates returned are the component's own, and must not be changed; setCoordinates(...) or setPose(...) must be
+     * used instead. 
      */
     public Coordinates getCoordinates()
     {
+        Pose current_pose = getPose();
+        coordinates.setCoordinates((int)Math.round(current_pose.getX()), (int)Math.round(current_pose.getY()), 
+        (int)Math.round(current_pose.getHeadingDegrees()));
         return coordinates;
     }
 
+    /**
+     * @return The World the component belongs to. 
+     */
+    public World getWorld()
+    {
+        return world;
+    }
+
     /**
      * @return The component's personal ID; a specific and unique value that is assigned upon instantiation.
      */
@@ -135,6 +413,44 @@ public class ComponentBase
         return COMPONENT_ID;
     }
 
+    /**
+     * @return The component's compact index given by the ComponentScheduler upon registration, or -1 if the component isn't registered.
+     * 
+     * @see
+     * Note: Indices of removed components are handed out again to newly registered components. 
+     */
+    public int getComponentIndex()
+    {
+        return component_index;
+    }
+
+    /**
+     * Sets the component's component index. The component's pose, previous pose, and velocity are moved into the PoseStore when 
+     * the component is given a component index, and moved back out when the component index is taken away.
+     */
+    protected void setComponentIndex(int component_index)
+    {
+        if(usesPoseStore())
+        {
+            getPose();
+            getPreviousPose();
+            velocity_x = getVelocityX();
+            velocity_y = getVelocityY();
+            angular_velocity = getAngularVelocity();
+            PoseStore.setVelocity(world, this.component_index, 0, 0, 0);
+        }
+
+        this.component_index = component_index;
+
+        if(usesPoseStore())
+        {
+            PoseStore.ensureCapacity(world, component_index + 1);
+            PoseStore.setPose(world, component_index, pose.getX(), pose.getY(), pose.getHeading());
+            PoseStore.setPreviousPose(world, component_index, previous_pose.getX(), previous_pose.getY(), previous_pose.getHeading());
+            PoseStore.setVelocity(world, component_index, velocity_x, velocity_y, angular_velocity);
+        }
+    }
+
     /**
      * @return An Image instance from the animation/image that the component is currently using. 
      */
@@ -143,6 +459,23 @@ public class ComponentBase
         return current_animation.getAnimation();
     }
 
+    /**
+     * @return The Animation instance that the component is currently using. 
+     */
+    public Animation getCurrentAnimation()
+    {
+        return current_animation;
+    }
+
+    /**
+     * @return The animation/image that the component is currently using, pre-rotated by the component's degrees, or null if the 
+     * animation/image can't be pre-rotated or the component isn't rotated. 
+     */
+    public RotatedImageCache.RotatedImage getRotatedAnimation()
+    {
+        return current_animation.getRotatedAnimation(getCoordinates().getDegrees());
+    }
+
 
     /**
      * @return An the width of the animation/image that the component is currently using. 
@@ -1,6 +1,12 @@
 package fundamentals.component;
 
 import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import fundamentals.Constants;
+import fundamentals.SimClock;
+import fundamentals.World;
+import fundamentals.mechanic.MechanicScheduler;
 
 /**
  * Manages all Component variables through means of static methods. All instantiated Components that have been 
@@ -9,11 +15,30 @@ import java.util.LinkedList;
  * Moreover, AppGraphics will always have access to all "registered" Component instances so that any changes that 
  * occur to any instance, such as updated coordinates or image, will immediately be refelected
  * on-screen when components are toggled to be active. 
+ * 
+ * @see
+ * Note: Every World has its own registered Components and SceneSnapshots. Methods passed a Component act on the Component's World, 
+ * methods passed a World act on that World, and the rest act on the current World of the calling thread.
  */
 public class ComponentScheduler 
 {
-    private static LinkedList<ComponentBase> components = new LinkedList<ComponentBase>();
-   
+    /**
+     * The registered Components and published SceneSnapshots of a single World. 
+     */
+    public static final class State
+    {
+        private LinkedList<ComponentBase> components = new LinkedList<ComponentBase>();
+        // Component indices are kept compact by handing out indices released by removed Components before new ones. 
+        private int[] free_component_indices = new int[16];
+        private int free_component_index_count = 0;
+        private int component_index_capacity = 0;
+        // Scene snapshots are triple buffered: one being captured, one waiting to be rendered, and one being rendered.
+        private SceneSnapshot captured_snapshot = new SceneSnapshot();
+        private AtomicReference<SceneSnapshot> published_snapshot = new AtomicReference<SceneSnapshot>(new SceneSnapshot());
+        private SceneSnapshot rendered_snapshot = new SceneSnapshot();
+        private long static_layer_version = 0;
+    }
+
     /**
     * Allows the Comoponent instance passed in to be accessible by the ComponentScheduler so that AppGraphics can display all
     * registered Components on-screen. 
@@ -21,39 +46,216 @@ public class ComponentScheduler
     * @see
     * Note: This method is called by a Component's superclass method, addRequirements(...). Therefore requiring
     * addRequirements(...) to be called by every Component to function appropriately. 
+    *
+    * @see
+    * Note: Upon registration, every Component is given a compact component index that is unique among registered Components.
     */
     protected static void registerComponent(ComponentBase component)
     {
-        for(int i = 0; i < components.size(); i++)
+        if(component == null || component.getComponentIndex() >= 0)
         {
-            if(component != null && component.getComponentID() == components.get(i).getComponentID())
-            {
-                return;   
-            }
+            return;
         }
 
-        components.addLast(component);
+        State state = component.getWorld().getComponentSchedulerState();
+
+        if(state.free_component_index_count > 0)
+        {
+            state.free_component_index_count--;
+            component.setComponentIndex(state.free_component_indices[state.free_component_index_count]);
+        }
+        else
+        {
+            component.setComponentIndex(state.component_index_capacity);
+            state.component_index_capacity++;
+        }
+
+        state.components.addLast(component);
+
+        if(component.isStatic())
+        {
+            invalidateStaticLayer(component.getWorld());
+        }
     }
 
     /**
      * Removes the Component passed in from the ComponentScheduler's list of registered Components.
+     * 
+     * @see
+     * Note: The Component's index is released for reuse, and is first freed from any mechanic that owns it. 
      */
     public static void removeComponent(ComponentBase component)
     {
-        for(int i = 0; i < components.size(); i++)
+        State state = component.getWorld().getComponentSchedulerState();
+
+        if(component.getComponentIndex() < 0)
+        {
+            return;
+        }
+
+        state.components.remove(component);
+
+        if(state.free_component_index_count == state.free_component_indices.length)
+        {
+            int[] grown_indices = new int[state.free_component_indices.length * 2];
+            System.arraycopy(state.free_component_indices, 0, grown_indices, 0, state.free_component_index_count);
+            state.free_component_indices = grown_indices;
+        }
+
+        MechanicScheduler.releaseComponentIndex(component.getWorld(), component.getComponentIndex());
+        state.free_component_indices[state.free_component_index_count] = component.getComponentIndex();
+        state.free_component_index_count++;
+        component.setComponentIndex(-1);
+
+        if(component.isStatic())
+        {
+            invalidateStaticLayer(component.getWorld());
+        }
+    }
+
+    /**
+     * Signals that a static Component of the World passed in has changed, so that the renderer's background layer of static Components is redrawn.
+     * 
+     * @see
+     * Note: This method is called by ComponentBase whenever a static Component is changed through one of its setters. 
+     */
+    protected static void invalidateStaticLayer(World world)
+    {
+        world.getComponentSchedulerState().static_layer_version++;
+    }
+
+    /**
+     * @return A version number for the static Components that is increased every time a static Component changes.
+     */
+    public static long getStaticLayerVersion()
+    {
+        return getStaticLayerVersion(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getStaticLayerVersion(). 
+     */
+    public static long getStaticLayerVersion(World world)
+    {
+        return world.getComponentSchedulerState().static_layer_version;
+    }
+
+    /**
+     * @return One more than the largest component index that has ever been handed out; every component index is less than this value.
+     */
+    public static int getComponentIndexCapacity()
+    {
+        return getComponentIndexCapacity(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getComponentIndexCapacity(). 
+     */
+    public static int getComponentIndexCapacity(World world)
+    {
+        return world.getComponentSchedulerState().component_index_capacity;
+    }
+
+    /**
+     * Captures every active registered Component into a SceneSnapshot and publishes it to the renderer, replacing any snapshot the 
+     * renderer hasn't picked up yet.
+     * 
+     * @see
+     * Note: This method is called by AppBase at the end of every tick, on the application's main thread. The snapshot is published 
+     * with a single atomic swap, and the snapshot swapped out is reused for the next capture, so no snapshots are allocated per tick.
+     */
+    public static void publishSceneSnapshot()
+    {
+        publishSceneSnapshot(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see publishSceneSnapshot(). 
+     */
+    public static void publishSceneSnapshot(World world)
+    {
+        State state = world.getComponentSchedulerState();
+
+        state.captured_snapshot.capture(world, SimClock.getTickCount(world), state.static_layer_version, state.components);
+        state.captured_snapshot = state.published_snapshot.getAndSet(state.captured_snapshot);
+
+        if(Constants.COMPONENT_CHARACTERISTICS.USE_POSE_STORE)
+        {
+            PoseStore.endTick(world);
+        }
+    }
+
+    /**
+     * Advances every registered Component's pose by its velocity over the amount of seconds passed in. 
+     * 
+     * @see
+     * Note: This method is called by AppBase once every tick, after the tick's mechanics have ran. With the PoseStore enabled, 
+     * every pose is advanced in a single sweep over the PoseStore's arrays. 
+     */
+    public static void integratePoses(double delta_seconds)
+    {
+        integratePoses(World.getCurrent(), delta_seconds);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see integratePoses(double). 
+     */
+    public static void integratePoses(World world, double delta_seconds)
+    {
+        State state = world.getComponentSchedulerState();
+
+        if(Constants.COMPONENT_CHARACTERISTICS.USE_POSE_STORE)
         {
-            if(components.get(i).getComponentID() == component.getComponentID())
-            {
-                components.remove(i);
-            }
+            PoseStore.integrate(world, delta_seconds);
+            return;
+        }
+
+        for(ComponentBase component : state.components)
+        {
+            component.integrate(delta_seconds);
         }
     }
 
+    /**
+     * @return The most recently published SceneSnapshot. The SceneSnapshot returned is not written to until this method is next called.
+     * 
+     * @see
+     * Note: This method must only be called by the renderer; a single thread or, as with Swing's event dispatch thread, a single
+     * thread at a time. 
+     */
+    public static SceneSnapshot getLatestSceneSnapshot()
+    {
+        return getLatestSceneSnapshot(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getLatestSceneSnapshot(). 
+     */
+    public static SceneSnapshot getLatestSceneSnapshot(World world)
+    {
+        State state = world.getComponentSchedulerState();
+
+        if(state.published_snapshot.get().getTick() > state.rendered_snapshot.getTick())
+        {
+            state.rendered_snapshot = state.published_snapshot.getAndSet(state.rendered_snapshot);
+        }
+
+        return state.rendered_snapshot;
+    }
+
     /**
      * @return A LinkedList of the ComponentScheduler's registered Components. 
      */
     public static LinkedList<ComponentBase> getComponents()
     {
-        return components;
+        return getComponents(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getComponents(). 
+     */
+    public static LinkedList<ComponentBase> getComponents(World world)
+    {
+        return world.getComponentSchedulerState().components;
     }
 }
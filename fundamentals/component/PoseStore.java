@@ -0,0 +1,335 @@
+package fundamentals.component;
+
+import fundamentals.World;
+
+/**
+ * Stores the pose, previous pose, and velocity of every registered Component in parallel arrays of primitives indexed by component
+ * index, rather than in a separate Pose instance per Component. Registered Components read and write their poses here, so sweeps
+ * over every Component, such as integrating velocities or capturing a SceneSnapshot, run over contiguous memory without 
+ * allocating. 
+ * 
+ * @see
+ * Note: A Component is moved into the PoseStore when it's registered with the ComponentScheduler, and moved back out when it's 
+ * removed; unregistered Components keep their pose themselves. The PoseStore can be disabled altogether with 
+ * Constants.COMPONENT_CHARACTERISTICS.USE_POSE_STORE. 
+ * 
+ * @see
+ * Note: Units of measurement: Pixels and radians for poses; pixels per second and radians per second for velocities.
+ * 
+ * @see
+ * Note: Every World has its own PoseStore arrays. Methods passed a World act on that World's arrays, and the rest act on the arrays of 
+ * the current World of the calling thread.
+ */
+public class PoseStore 
+{
+    /**
+     * The poses and velocities of the registered Components of a single World. 
+     */
+    public static final class State
+    {
+        private int capacity = 0;
+        private double[] x = new double[0];
+        private double[] y = new double[0];
+        private double[] theta = new double[0];
+        private double[] previous_x = new double[0];
+        private double[] previous_y = new double[0];
+        private double[] previous_theta = new double[0];
+        private double[] velocity_x = new double[0];
+        private double[] velocity_y = new double[0];
+        private double[] angular_velocity = new double[0];
+    }
+
+    /**
+     * Grows the PoseStore of the World passed in, if needed, so that it can hold every component index less than the capacity passed in.
+     */
+    protected static void ensureCapacity(World world, int required_capacity)
+    {
+        State state = world.getPoseStoreState();
+
+        if(required_capacity <= state.capacity)
+        {
+            return;
+        }
+
+        int grown_capacity = Math.max(required_capacity, Math.max(16, state.capacity * 2));
+        state.x = grow(state.x, grown_capacity);
+        state.y = grow(state.y, grown_capacity);
+        state.theta = grow(state.theta, grown_capacity);
+        state.previous_x = grow(state.previous_x, grown_capacity);
+        state.previous_y = grow(state.previous_y, grown_capacity);
+        state.previous_theta = grow(state.previous_theta, grown_capacity);
+        state.velocity_x = grow(state.velocity_x, grown_capacity);
+        state.velocity_y = grow(state.velocity_y, grown_capacity);
+        state.angular_velocity = grow(state.angular_velocity, grown_capacity);
+        state.capacity = grown_capacity;
+    }
+
+    private static double[] grow(double[] values, int grown_capacity)
+    {
+        double[] grown_values = new double[grown_capacity];
+        System.arraycopy(values, 0, grown_values, 0, values.length);
+        return grown_values;
+    }
+
+    /**
+     * Advances every stored pose by its velocity over the amount of seconds passed in. 
+     * 
+     * @see
+     * Note: This method is called by AppBase once every tick, after the tick's mechanics have ran. Static Components should not be 
+     * given a velocity, given that poses changed here don't redraw the background layer.
+     */
+    public static void integrate(double delta_seconds)
+    {
+        integrate(World.getCurrent(), delta_seconds);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see integrate(double). 
+     */
+    public static void integrate(World world, double delta_seconds)
+    {
+        State state = world.getPoseStoreState();
+
+        for(int i = 0; i < state.capacity; i++)
+        {
+            state.x[i] += state.velocity_x[i] * delta_seconds;
+            state.y[i] += state.velocity_y[i] * delta_seconds;
+            state.theta[i] += state.angular_velocity[i] * delta_seconds;
+        }
+    }
+
+    /**
+     * Keeps every pose stored in the World passed in as its previous pose, which the renderer interpolates from during the next tick. 
+     * 
+     * @see
+     * Note: This method is called by the ComponentScheduler at the end of every tick, once the tick's SceneSnapshot is captured. 
+     */
+    protected static void endTick(World world)
+    {
+        State state = world.getPoseStoreState();
+
+        System.arraycopy(state.x, 0, state.previous_x, 0, state.capacity);
+        System.arraycopy(state.y, 0, state.previous_y, 0, state.capacity);
+        System.arraycopy(state.theta, 0, state.previous_theta, 0, state.capacity);
+    }
+
+    /**
+     * Sets the pose stored at the component index passed in. 
+     */
+    public static void setPose(int index, double x, double y, double theta)
+    {
+        setPose(World.getCurrent(), index, x, y, theta);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see setPose(int, double, double, double). 
+     */
+    public static void setPose(World world, int index, double x, double y, double theta)
+    {
+        State state = world.getPoseStoreState();
+
+        state.x[index] = x;
+        state.y[index] = y;
+        state.theta[index] = theta;
+    }
+
+    /**
+     * Sets the previous pose stored at the component index passed in. 
+     */
+    public static void setPreviousPose(int index, double x, double y, double theta)
+    {
+        setPreviousPose(World.getCurrent(), index, x, y, theta);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see setPreviousPose(int, double, double, double). 
+     */
+    public static void setPreviousPose(World world, int index, double x, double y, double theta)
+    {
+        State state = world.getPoseStoreState();
+
+        state.previous_x[index] = x;
+        state.previous_y[index] = y;
+        state.previous_theta[index] = theta;
+    }
+
+    /**
+     * Sets the velocity stored at the component index passed in. 
+     */
+    public static void setVelocity(int index, double velocity_x, double velocity_y, double angular_velocity)
+    {
+        setVelocity(World.getCurrent(), index, velocity_x, velocity_y, angular_velocity);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see setVelocity(int, double, double, double). 
+     */
+    public static void setVelocity(World world, int index, double velocity_x, double velocity_y, double angular_velocity)
+    {
+        State state = world.getPoseStoreState();
+
+        state.velocity_x[index] = velocity_x;
+        state.velocity_y[index] = velocity_y;
+        state.angular_velocity[index] = angular_velocity;
+    }
+
+    /**
+     * @return The x-coordinate stored at the component index passed in. 
+     */
+    public static double getX(int index)
+    {
+        return getX(World.getCurrent(), index);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getX(int). 
+     */
+    public static double getX(World world, int index)
+    {
+        return world.getPoseStoreState().x[index];
+    }
+
+    /**
+     * @return The y-coordinate stored at the component index passed in. 
+     */
+    public static double getY(int index)
+    {
+        return getY(World.getCurrent(), index);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getY(int). 
+     */
+    public static double getY(World world, int index)
+    {
+        return world.getPoseStoreState().y[index];
+    }
+
+    /**
+     * @return The heading in radians stored at the component index passed in. 
+     */
+    public static double getTheta(int index)
+    {
+        return getTheta(World.getCurrent(), index);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getTheta(int). 
+     */
+    public static double getTheta(World world, int index)
+    {
+        return world.getPoseStoreState().theta[index];
+    }
+
+    /**
+     * @return The previous x-coordinate stored at the component index passed in. 
+     */
+    public static double getPreviousX(int index)
+    {
+        return getPreviousX(World.getCurrent(), index);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getPreviousX(int). 
+     */
+    public static double getPreviousX(World world, int index)
+    {
+        return world.getPoseStoreState().previous_x[index];
+    }
+
+    /**
+     * @return The previous y-coordinate stored at the component index passed in. 
+     */
+    public static double getPreviousY(int index)
+    {
+        return getPreviousY(World.getCurrent(), index);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getPreviousY(int). 
+     */
+    public static double getPreviousY(World world, int index)
+    {
+        return world.getPoseStoreState().previous_y[index];
+    }
+
+    /**
+     * @return The previous heading in radians stored at the component index passed in. 
+     */
+    public static double getPreviousTheta(int index)
+    {
+        return getPreviousTheta(World.getCurrent(), index);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getPreviousTheta(int). 
+     */
+    public static double getPreviousTheta(World world, int index)
+    {
+        return world.getPoseStoreState().previous_theta[index];
+    }
+
+    /**
+     * @return The x-velocity stored at the component index passed in. 
+     */
+    public static double getVelocityX(int index)
+    {
+        return getVelocityX(World.getCurrent(), index);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getVelocityX(int). 
+     */
+    public static double getVelocityX(World world, int index)
+    {
+        return world.getPoseStoreState().velocity_x[index];
+    }
+
+    /**
+     * @return The y-velocity stored at the component index passed in. 
+     */
+    public static double getVelocityY(int index)
+    {
+        return getVelocityY(World.getCurrent(), index);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getVelocityY(int). 
+     */
+    public static double getVelocityY(World world, int index)
+    {
+        return world.getPoseStoreState().velocity_y[index];
+    }
+
+    /**
+     * @return The angular velocity stored at the component index passed in. 
+     */
+    public static double getAngularVelocity(int index)
+    {
+        return getAngularVelocity(World.getCurrent(), index);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getAngularVelocity(int). 
+     */
+    public static double getAngularVelocity(World world, int index)
+    {
+        return world.getPoseStoreState().angular_velocity[index];
+    }
+
+    /**
+     * @return The amount of component indices the PoseStore can currently hold. 
+     */
+    public static int getCapacity()
+    {
+        return getCapacity(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getCapacity(). 
+     */
+    public static int getCapacity(World world)
+    {
+        return world.getPoseStoreState().capacity;
+    }
+}
@@ -0,0 +1,249 @@
+package fundamentals.component;
+
+import java.awt.Rectangle;
+
+import fundamentals.Constants;
+import fundamentals.Pose;
+import fundamentals.World;
+import fundamentals.animation.Animation;
+
+/**
+ * A copy of everything needed to draw the registered Components at the end of a single tick: each active Component's component 
+ * index, Animation, pose at the end of the tick and at the end of the tick before, opacity, bounding box, and whether or not it's static. SceneSnapshots are captured by the ComponentScheduler on the application's main 
+ * thread and handed to the renderer, so the renderer never reads a Component while it's being changed. 
+ * 
+ * @see
+ * Note: SceneSnapshots are pooled and reused by the ComponentScheduler. Once handed to the renderer, a SceneSnapshot is never 
+ * written to again until the renderer has traded it back for a newer one, so to the renderer it's immutable. 
+ */
+public class SceneSnapshot 
+{
+    private long tick = -1;
+    private long captured_nanos = 0;
+    private long static_layer_version = -1;
+    private int size = 0;
+    private int[] component_indices = new int[16];
+    private Animation[] animations = new Animation[16];
+    private double[] x_coordinates = new double[16];
+    private double[] y_coordinates = new double[16];
+    private double[] headings = new double[16];
+    private double[] previous_x_coordinates = new double[16];
+    private double[] previous_y_coordinates = new double[16];
+    private double[] previous_headings = new double[16];
+    private double[] opacities = new double[16];
+    private boolean[] statics = new boolean[16];
+    private Rectangle[] bounds = new Rectangle[16];
+
+    protected SceneSnapshot() {}
+
+    // Overwrites this snapshot with the active Components passed in, all of which belong to the World passed in.
+    protected void capture(World world, long tick, long static_layer_version, Iterable<ComponentBase> components)
+    {
+        this.tick = tick;
+        this.captured_nanos = System.nanoTime();
+        this.static_layer_version = static_layer_version;
+        size = 0;
+
+        for(ComponentBase component : components)
+        {
+            if(!component.getActivity())
+            {
+                component.endTick();
+                continue;
+            }
+
+            if(size == component_indices.length)
+            {
+                grow();
+            }
+
+            component_indices[size] = component.getComponentIndex();
+            animations[size] = component.getCurrentAnimation();
+            if(Constants.COMPONENT_CHARACTERISTICS.USE_POSE_STORE)
+            {
+                int index = component.getComponentIndex();
+                x_coordinates[size] = PoseStore.getX(world, index);
+                y_coordinates[size] = PoseStore.getY(world, index);
+                headings[size] = PoseStore.getTheta(world, index);
+                previous_x_coordinates[size] = PoseStore.getPreviousX(world, index);
+                previous_y_coordinates[size] = PoseStore.getPreviousY(world, index);
+                previous_headings[size] = PoseStore.getPreviousTheta(world, index);
+            }
+            else
+            {
+                x_coordinates[size] = component.getPose().getX();
+                y_coordinates[size] = component.getPose().getY();
+                headings[size] = component.getPose().getHeading();
+                previous_x_coordinates[size] = component.getPreviousPose().getX();
+                previous_y_coordinates[size] = component.getPreviousPose().getY();
+                previous_headings[size] = component.getPreviousPose().getHeading();
+            }
+            opacities[size] = component.getOpacicty();
+            statics[size] = component.isStatic();
+            component.endTick();
+
+            if(bounds[size] == null)
+            {
+                bounds[size] = new Rectangle();
+            }
+
+            bounds[size].setBounds(component.getBounds());
+            size++;
+        }
+
+        for(int i = size; i < animations.length && animations[i] != null; i++)
+        {
+            animations[i] = null;
+        }
+    }
+
+    private void grow()
+    {
+        int capacity = component_indices.length * 2;
+        int[] grown_component_indices = new int[capacity];
+        Animation[] grown_animations = new Animation[capacity];
+        double[] grown_x_coordinates = new double[capacity];
+        double[] grown_y_coordinates = new double[capacity];
+        double[] grown_headings = new double[capacity];
+        double[] grown_previous_x_coordinates = new double[capacity];
+        double[] grown_previous_y_coordinates = new double[capacity];
+        double[] grown_previous_headings = new double[capacity];
+        double[] grown_opacities = new double[capacity];
+        boolean[] grown_statics = new boolean[capacity];
+        Rectangle[] grown_bounds = new Rectangle[capacity];
+
+        System.arraycopy(component_indices, 0, grown_component_indices, 0, size);
+        System.arraycopy(animations, 0, grown_animations, 0, size);
+        System.arraycopy(x_coordinates, 0, grown_x_coordinates, 0, size);
+        System.arraycopy(y_coordinates, 0, grown_y_coordinates, 0, size);
+        System.arraycopy(headings, 0, grown_headings, 0, size);
+        System.arraycopy(previous_x_coordinates, 0, grown_previous_x_coordinates, 0, size);
+        System.arraycopy(previous_y_coordinates, 0, grown_previous_y_coordinates, 0, size);
+        System.arraycopy(previous_headings, 0, grown_previous_headings, 0, size);
+        System.arraycopy(opacities, 0, grown_opacities, 0, size);
+        System.arraycopy(statics, 0, grown_statics, 0, size);
+        System.arraycopy(bounds, 0, grown_bounds, 0, size);
+
+        component_indices = grown_component_indices;
+        animations = grown_animations;
+        x_coordinates = grown_x_coordinates;
+        y_coordinates = grown_y_coordinates;
+        headings = grown_headings;
+        previous_x_coordinates = grown_previous_x_coordinates;
+        previous_y_coordinates = grown_previous_y_coordinates;
+        previous_headings = grown_previous_headings;
+        opacities = grown_opacities;
+        statics = grown_statics;
+        bounds = grown_bounds;
+    }
+
+    /**
+     * @return The tick the snapshot was captured at, as read from the SimClock, or -1 if the snapshot has never been captured. 
+     */
+    public long getTick()
+    {
+        return tick;
+    }
+
+    /**
+     * @return The System.nanoTime() timestamp of when the snapshot was captured. 
+     */
+    public long getCapturedNanos()
+    {
+        return captured_nanos;
+    }
+
+    /**
+     * @return The ComponentScheduler's static layer version at the time the snapshot was captured; when it differs between two 
+     * snapshots, a static Component has changed in between. 
+     */
+    public long getStaticLayerVersion()
+    {
+        return static_layer_version;
+    }
+
+    /**
+     * @return The amount of Components in the snapshot; every entry index is less than this value. 
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return The component index of the Component at the entry index passed in. 
+     */
+    public int getComponentIndex(int entry)
+    {
+        return component_indices[entry];
+    }
+
+    /**
+     * @return The Animation the Component at the entry index passed in was using. 
+     */
+    public Animation getAnimation(int entry)
+    {
+        return animations[entry];
+    }
+
+    /**
+     * @return The x-coordinate of the Component at the entry index passed in. 
+     */
+    public double getX(int entry)
+    {
+        return x_coordinates[entry];
+    }
+
+    /**
+     * @return The y-coordinate of the Component at the entry index passed in. 
+     */
+    public double getY(int entry)
+    {
+        return y_coordinates[entry];
+    }
+
+    /**
+     * @return The heading in radians of the Component at the entry index passed in. 
+     */
+    public double getHeading(int entry)
+    {
+        return headings[entry];
+    }
+
+    /**
+     * Sets the Pose passed in to the pose of the Component at the entry index passed in, interpolated between its pose at the end
+     * of the tick before the snapshot's tick and its pose at the end of the snapshot's tick. 
+     * 
+     * @param alpha
+     * - How far between the two poses to interpolate, within the interval: [0, 1]; 0 is the previous tick's pose and 1 is this tick's.
+     */
+    public void getInterpolatedPose(int entry, double alpha, Pose pose)
+    {
+        pose.interpolate(previous_x_coordinates[entry], previous_y_coordinates[entry], previous_headings[entry], 
+        x_coordinates[entry], y_coordinates[entry], headings[entry], alpha);
+    }
+
+    /**
+     * @return The opacity of the Component at the entry index passed in. 
+     */
+    public double getOpacity(int entry)
+    {
+        return opacities[entry];
+    }
+
+    /**
+     * @return Whether or not the Component at the entry index passed in is static. 
+     */
+    public boolean isStatic(int entry)
+    {
+        return statics[entry];
+    }
+
+    /**
+     * @return The on-screen bounding box of the Component at the entry index passed in; see ComponentBase.getBounds().
+     */
+    public Rectangle getBounds(int entry)
+    {
+        return bounds[entry];
+    }
+}
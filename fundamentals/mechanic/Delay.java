@@ -1,5 +1,7 @@
 package fundamentals.mechanic;
 
+import fundamentals.SimClock;
+
 /**
  * A mechanic that when scheduled, runs for a period of milliseconds while periodically and consecutively scheduling another mechanic
  * on a loop during the idle period. 
@@ -38,13 +40,13 @@ public class Delay extends MechanicBase
     @Override
     public void initialize() 
     {
-        initial_millis = MechanicScheduler.getElapsedMillis();
+        initial_millis = SimClock.getElapsedMillis(getWorld());
     }
 
     @Override
     public void execute() 
     {
-        delta_millis = MechanicScheduler.getElapsedMillis() - initial_millis;
+        delta_millis = SimClock.getElapsedMillis(getWorld()) - initial_millis;
         
         if(idle_mechanic != null)
         {
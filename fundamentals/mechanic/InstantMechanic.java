@@ -1,5 +1,7 @@
 package fundamentals.mechanic;
 
+import fundamentals.World;
+
 /**
  * A variation of MechanicBase, InstantMechanics are mechanics that when instantiated, require a lambda function
  * that will describe the mechanic's behvior. 
@@ -33,6 +35,15 @@ public class InstantMechanic extends MechanicBase
         this.behavior = behavior;
     }
 
+    /**
+     * An InstantMechanic that is scheduled within the World passed in rather than within the current World. 
+     */
+    public InstantMechanic(World world, mechanic_behavior behavior)
+    {
+        super(world);
+        this.behavior = behavior;
+    }
+
     @Override
     public void initialize()
     {
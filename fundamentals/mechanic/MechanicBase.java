@@ -1,6 +1,9 @@
 package fundamentals.mechanic;
 
+import java.util.BitSet;
 import java.util.LinkedList;
+import fundamentals.SimClock;
+import fundamentals.World;
 import fundamentals.component.ComponentBase;
 
 /**
@@ -13,16 +16,60 @@ import fundamentals.component.ComponentBase;
  * 
  * @see
  * Note: Mechanic superclasses: MechanicBase, InstantMechanic, and SequentialMechanicGroup.
+ * 
+ * @see
+ * Note: Every mechanic belongs to a single World, and is always scheduled and timed within that World; by default, the World that was
+ * current when the mechanic was instantiated. A mechanic can only require components of its own World.
  */
 public class MechanicBase implements MechanicInterface
 {
     private final double MECHANIC_ID = Math.random();
+    private final World world;
     private LinkedList<Double> component_IDs = new LinkedList<Double>();
+    private LinkedList<ComponentBase> required_components = new LinkedList<ComponentBase>();
+    private BitSet requirement_mask = new BitSet();
     private boolean scheduled = false; 
     private boolean initialized = false;
     private boolean interrupted = false;
+    private boolean queued = false;
+    private boolean interruption_pending = false;
     private int initial_millis = 0;
     private int executional_periodic_delay_millis = 0; 
+    private int scheduler_handle = -1;
+    private InterruptionPolicy interruption_policy = InterruptionPolicy.CANCEL_RUNNING;
+
+    /**
+     * Describes what happens when another mechanic is scheduled that requires a component this mechanic 
+     * currently owns while it's scheduled and running. 
+     */
+    public enum InterruptionPolicy
+    {
+        /** This mechanic is interrupted and ended, and the newly scheduled mechanic takes over its components. */
+        CANCEL_RUNNING,
+        /** This mechanic keeps running, and the newly scheduled mechanic is rejected and is not scheduled. */
+        CANCEL_INCOMING,
+        /** This mechanic keeps running, and the newly scheduled mechanic waits until this mechanic ends before being scheduled. */
+        QUEUE
+    }
+
+    /**
+     * Creates a mechanic that belongs to the current World of the thread instantiating it. 
+     */
+    public MechanicBase()
+    {
+        this(World.getCurrent());
+    }
+
+    /**
+     * Creates a mechanic that belongs to the World passed in. 
+     * 
+     * @param world
+     * - The World the mechanic is scheduled and timed within. 
+     */
+    public MechanicBase(World world)
+    {
+        this.world = world;
+    }
 
     @Override public void initialize() {}
     @Override public void execute() {}
@@ -33,6 +80,10 @@ public class MechanicBase implements MechanicInterface
      * Once MechanicBase has been extended and become a superclass to a sublcass, the subclass must call 
      * this method in order for the subclass to apropriately function as a app mechanic. Moreover, any components 
      * that will be used by the mechanic must be passed in.
+     * 
+     * @see
+     * Note: Each component's index is marked in the mechanic's requirement mask. Component indices are reused once a component is
+     * removed, so the mask is rebuilt from the required components' current indices every time the mechanic is scheduled. 
      */
     public <GenericComponent extends ComponentBase> void addRequirements(GenericComponent... components)
     {
@@ -40,7 +91,33 @@ public class MechanicBase implements MechanicInterface
         {
             for(int i = 0; i < components.length; i++)
             {
+                if(components[i].getWorld() != world)
+                {
+                    System.err.println("MechanicBase.java: Component required from another World exeception! ");
+                    continue;
+                }
+
                 this.component_IDs.addLast(components[i].getComponentID());
+                this.required_components.addLast(components[i]);
+
+                if(components[i].getComponentIndex() >= 0)
+                {
+                    requirement_mask.set(components[i].getComponentIndex());
+                }
+            }
+        }
+    }
+
+    // Required components that have been removed are left out, given that their old indices may now belong to other components
+    private void rebuildRequirementMask()
+    {
+        requirement_mask.clear();
+
+        for(int i = 0; i < required_components.size(); i++)
+        {
+            if(required_components.get(i).getComponentIndex() >= 0)
+            {
+                requirement_mask.set(required_components.get(i).getComponentIndex());
             }
         }
     }
@@ -53,6 +130,14 @@ public class MechanicBase implements MechanicInterface
         return MECHANIC_ID;
     }
 
+    /**
+     * @return The World the mechanic belongs to. 
+     */
+    public World getWorld()
+    {
+        return world;
+    }
+
     /**
      * The execute() method is continuously called once a mechanic is scheduled, and so this method 
      * is used to determine how often the execute() method should be called. 
@@ -77,19 +162,112 @@ public class MechanicBase implements MechanicInterface
     /**
      * "Schedules" a mechanic to run. Once scheduled by calling this method, a mechanic will call initialize() once,
      * and then continuously call execute() until isFinished()'s ending condition returns true, and finally end() is called once. 
+     * 
+     * @see
+     * Note: Scheduling a mechanic that is already scheduled and running does nothing; a mechanic is only ever registered once. 
+     * A mechanic that has lost its components to another mechanic and is waiting to be ended isn't running, though; it's ended with 
+     * end(true) right away, and then scheduled afresh. 
+     * 
+     * @see
+     * Note: If a required component is owned by another running mechanic, that mechanic's interruption policy decides whether 
+     * this mechanic interrupts it, is rejected, or is queued until the component is free.  
      */
     public void schedule()
     {
-        scheduled = true; 
-        MechanicScheduler.registerMechanic(this);
+        finishInterruption();
+
+        if(!scheduled && !queued)
+        {
+            rebuildRequirementMask();
+        }
+
+        if(MechanicScheduler.claimRequirements(this))
+        {
+            scheduled = true; 
+            MechanicScheduler.registerMechanic(this);
+        }
     }
 
     /**
      * Used to immediately hault a scheduled and running mechanic. 
+     * 
+     * @see
+     * Note: A mechanic that is queued and waiting on its components is simply removed from the queue; it never ran, so end() is not called.
      */
     public void cancel()
     {
+        if(queued)
+        {
+            MechanicScheduler.removeQueuedMechanic(this);
+            return;
+        }
+
+        interrupted = true;
+    }
+
+    /**
+     * Marks a scheduled and running mechanic as interrupted, so that it's ended by finishInterruption() at the start of the 
+     * MechanicScheduler's next pass. This is used when another mechanic takes over a component that this mechanic owns; 
+     * end() is not called right away, given that the other mechanic is still being scheduled.
+     * 
+     * @return Whether or not the mechanic was newly marked; false if it isn't scheduled, or was already marked. 
+     * 
+     * @see
+     * Note: Once marked, the mechanic is no longer executed by run(). 
+     */
+    protected boolean markInterrupted()
+    {
+        if(!scheduled || interruption_pending)
+        {
+            return false;
+        }
+
         interrupted = true;
+        interruption_pending = true;
+        return true;
+    }
+
+    /**
+     * Ends a mechanic marked by markInterrupted(), calling end(true). Does nothing if the mechanic isn't marked. 
+     */
+    protected void finishInterruption()
+    {
+        if(interruption_pending)
+        {
+            interruption_pending = false;
+
+            if(scheduled)
+            {
+                finish();
+            }
+        }
+    }
+
+    /**
+     * @return Whether or not the mechanic has lost its components to another mechanic, and is waiting to be ended. 
+     */
+    public boolean isInterruptionPending()
+    {
+        return interruption_pending;
+    }
+
+    /**
+     * Sets how this mechanic responds when another mechanic is scheduled that requires any of the components this mechanic is using. 
+     * 
+     * @param interruption_policy
+     * - The policy to use; mechanics use InterruptionPolicy.CANCEL_RUNNING unless this method is called. 
+     */
+    public void setInterruptionPolicy(InterruptionPolicy interruption_policy)
+    {
+        this.interruption_policy = interruption_policy;
+    }
+
+    /**
+     * @return How this mechanic responds when another mechanic is scheduled that requires any of its components. 
+     */
+    public InterruptionPolicy getInterruptionPolicy()
+    {
+        return interruption_policy;
     }
 
     /**
@@ -100,29 +278,52 @@ public class MechanicBase implements MechanicInterface
      */
     public void run()
     {
+        if(interruption_pending)
+        {
+            return;
+        }
+
         if(scheduled && !initialized && !isFinished())
         {
-            initial_millis = MechanicScheduler.getElapsedMillis();
+            initial_millis = SimClock.getElapsedMillis(world);
             this.initialize();
             initialized = true;
         }
         else if(scheduled && initialized && !isFinished() && 
-        Math.abs(MechanicScheduler.getElapsedMillis() - initial_millis) >= executional_periodic_delay_millis)
+        Math.abs(SimClock.getElapsedMillis(world) - initial_millis) >= executional_periodic_delay_millis)
         {
             this.execute();
-            initial_millis = MechanicScheduler.getElapsedMillis();
+            initial_millis = SimClock.getElapsedMillis(world);
         }
         
         if(scheduled && (this.isFinished() || interrupted))
         {
-            this.end(interrupted);
-            scheduled = false; 
-            initialized = false;
-            interrupted = false;
-            MechanicScheduler.removeMechanic(this);
+            finish();
         }
     }
 
+    private void finish()
+    {
+        this.end(interrupted);
+        scheduled = false; 
+        initialized = false;
+        interrupted = false;
+        MechanicScheduler.removeMechanic(this);
+    }
+
+    /**
+     * @return The mechanic's index within the MechanicScheduler's registry, or -1 if the mechanic is not registered. 
+     */
+    protected int getSchedulerHandle()
+    {
+        return scheduler_handle;
+    }
+
+    protected void setSchedulerHandle(int scheduler_handle)
+    {
+        this.scheduler_handle = scheduler_handle;
+    }
+
     /**
      * @return Whether or not the mechanic is scheduled and is running. 
      */
@@ -131,6 +332,19 @@ public class MechanicBase implements MechanicInterface
         return scheduled;
     }
 
+    /**
+     * @return Whether or not the mechanic is waiting in the MechanicScheduler's queue for its required components to be free. 
+     */
+    public boolean isQueued()
+    {
+        return queued;
+    }
+
+    protected void setQueued(boolean queued)
+    {
+        this.queued = queued;
+    }
+
     /**
      * @return Whether or not the mechanic has been initialized and the initialize() method has been called. 
      */
@@ -154,4 +368,20 @@ public class MechanicBase implements MechanicInterface
     {
         return component_IDs;
     }
+
+    /**
+     * @return A mask of the component indices of every component the mechanic requires; bit N is set if the component with index N is required. 
+     */
+    public BitSet getRequirementMask()
+    {
+        return requirement_mask;
+    }
+
+    /**
+     * @return Whether or not this mechanic and the mechanic passed in require any of the same components. 
+     */
+    public boolean sharesRequirementsWith(MechanicBase mechanic)
+    {
+        return requirement_mask.intersects(mechanic.getRequirementMask());
+    }
 }
\ No newline at end of file
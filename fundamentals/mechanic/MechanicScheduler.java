@@ -1,7 +1,10 @@
 package fundamentals.mechanic;
 
+import java.util.BitSet;
 import java.util.LinkedList;
-import fundamentals.Constants;
+import fundamentals.SimClock;
+import fundamentals.World;
+import fundamentals.component.ComponentScheduler;
 
 /**
  * Manages all mechanic variables through means of static methods. All types of mechanics inherit MechanicBase methods, regardless 
@@ -9,23 +12,49 @@ import fundamentals.Constants;
  * "register" the mechanic with the MechanicScheduler either until the mechanic is interrupted, or has its ending condition met 
  * and the mechanic naturally ends. Lastly, all registered mechanics will be ran by the MechanicScheduler until the mechanic somehow ends,
  * allowing it to be de-registered. 
+ * 
+ * @see
+ * Note: Every World has its own registered mechanics. Methods passed a mechanic act on the mechanic's World, methods passed a World
+ * act on that World, and the rest act on the current World of the calling thread.
  */
 public class MechanicScheduler 
 {
-    private static LinkedList<MechanicBase> mechanics = new LinkedList<MechanicBase>();
-    private static int current_instance_index = 0;
-    private static int elapsed_millis = 0;
+    /**
+     * The registered mechanics of a single World. 
+     */
+    public static final class State
+    {
+        // Registered mechanics are kept densely packed; a mechanic's scheduler handle is its index in this array. 
+        private MechanicBase[] mechanics = new MechanicBase[16];
+        private MechanicBase[] tick_snapshot = new MechanicBase[16];
+        private int mechanic_count = 0;
+        private long duplicate_schedule_count = 0;
+        private long rejected_schedule_count = 0;
+        // Indexed by component index; holds the scheduled mechanic that currently owns each component. 
+        private MechanicBase[] component_owners = new MechanicBase[16];
+        private LinkedList<MechanicBase> queued_mechanics = new LinkedList<MechanicBase>();
+        // Mechanics that lost their components to a newly scheduled mechanic, waiting to be ended at the start of the next pass. 
+        private LinkedList<MechanicBase> interrupted_mechanics = new LinkedList<MechanicBase>();
+        private int current_instance_index = 0;
+    }
 
     /**
-     * @return The elapsed time in milliseconds since the first time the MechanicScheduler was called. (when the program began running!)
+     * @return The elapsed time in milliseconds since the program began running, as read from the SimClock. 
      * 
      * @see
-     * Note: Given that the MechanicScheduler immediately begins running once the application begins running, the scheduler's elapsed
-     * time can be treated as the amount of time the application as been running. 
+     * Note: The SimClock advances by exactly one refresh period every tick, so the elapsed time is simulated time rather than wall time. 
      */
     public static int getElapsedMillis()
     {
-        return elapsed_millis;
+        return SimClock.getElapsedMillis();
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getElapsedMillis(). 
+     */
+    public static int getElapsedMillis(World world)
+    {
+        return SimClock.getElapsedMillis(world);
     }
 
     /**
@@ -35,65 +64,292 @@ public class MechanicScheduler
     * @see
     * Note: This method is called by a mechanic's superclass method, schedule(). Therefore mechanics need to be scheduled
     * with the schedule() method in order to run and function appropriately. 
+    *
+    * @see
+    * Note: Registration is O(1); the mechanic is appended to the end of the registry and given its index as its scheduler handle.
+    * A mechanic that already owns a handle is already registered, and will not be registered again; the attempt is only counted.
     */
     protected static void registerMechanic(MechanicBase mechanic)
     {
-        if(mechanic !=  null)
+        if(mechanic == null)
         {
-            mechanics.addLast(mechanic);
+            return;
         }
+
+        State state = mechanic.getWorld().getMechanicSchedulerState();
+
+        if(mechanic.getSchedulerHandle() >= 0)
+        {
+            state.duplicate_schedule_count++;
+            return;
+        }
+
+        if(state.mechanic_count == state.mechanics.length)
+        {
+            MechanicBase[] grown_mechanics = new MechanicBase[state.mechanics.length * 2];
+            System.arraycopy(state.mechanics, 0, grown_mechanics, 0, state.mechanic_count);
+            state.mechanics = grown_mechanics;
+        }
+
+        state.mechanics[state.mechanic_count] = mechanic;
+        mechanic.setSchedulerHandle(state.mechanic_count);
+        state.mechanic_count++;
+    }
+
+    /**
+     * @return The amount of mechanics currently registered with the MechanicScheduler.
+     */
+    public static int getAmountOfMechanics()
+    {
+        return getAmountOfMechanics(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getAmountOfMechanics(). 
+     */
+    public static int getAmountOfMechanics(World world)
+    {
+        return world.getMechanicSchedulerState().mechanic_count;
+    }
+
+    /**
+     * @return The amount of times a mechanic was scheduled while it was already registered with the MechanicScheduler. 
+     * 
+     * @see
+     * Note: These schedules are ignored, so the MechanicScheduler never holds more mechanics than there are distinct running mechanics.
+     * A steadily climbing count usually means a mechanic is being re-scheduled every tick while it's still running. 
+     */
+    public static long getDuplicateScheduleCount()
+    {
+        return getDuplicateScheduleCount(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getDuplicateScheduleCount(). 
+     */
+    public static long getDuplicateScheduleCount(World world)
+    {
+        return world.getMechanicSchedulerState().duplicate_schedule_count;
     }
 
-    public static void interruptSimultaneousComponentUtilization()
+    /**
+     * Resolves the components required by a mechanic that is being scheduled against the mechanics that currently own them. For every
+     * required component owned by another mechanic, the owner's interruption policy decides the outcome: CANCEL_INCOMING rejects
+     * the mechanic, QUEUE queues the mechanic until the components are free, and CANCEL_RUNNING interrupts the owner. Rejection takes 
+     * precedence over queueing, and queueing over interruption. An interrupted owner stops running immediately, but its end(true) is
+     * only called at the start of the next runMechanics() pass, so no mechanic's code is ran while this mechanic is being scheduled.
+     * 
+     * @return Whether or not the mechanic now owns all of its required components and may be registered.
+     * 
+     * @see
+     * Note: This method is called by a mechanic's superclass method, schedule(). Each required component is resolved with a single 
+     * look-up in the owner table, so scheduling is O(requirements) regardless of how many mechanics are registered. 
+     */
+    protected static boolean claimRequirements(MechanicBase mechanic)
     {
-        MechanicBase primary_mechanic = mechanics.get(current_instance_index);
+        State state = mechanic.getWorld().getMechanicSchedulerState();
 
-        for(int i = 0; i < mechanics.size(); i++)
+        if(mechanic.getSchedulerHandle() >= 0 || mechanic.isQueued())
         {
-            if(i != current_instance_index && primary_mechanic.isScheduled() && mechanics.get(i).isScheduled())
+            state.duplicate_schedule_count++;
+            return false;
+        }
+
+        int component_index_capacity = ComponentScheduler.getComponentIndexCapacity(mechanic.getWorld());
+
+        if(state.component_owners.length < component_index_capacity)
+        {
+            MechanicBase[] grown_owners = new MechanicBase[Math.max(component_index_capacity, state.component_owners.length * 2)];
+            System.arraycopy(state.component_owners, 0, grown_owners, 0, state.component_owners.length);
+            state.component_owners = grown_owners;
+        }
+
+        BitSet requirement_mask = mechanic.getRequirementMask();
+        boolean queue = false;
+
+        for(int index = requirement_mask.nextSetBit(0); index >= 0; index = requirement_mask.nextSetBit(index + 1))
+        {
+            MechanicBase owner = state.component_owners[index];
+
+            if(owner != null && owner != mechanic && owner.getInterruptionPolicy() == MechanicBase.InterruptionPolicy.CANCEL_INCOMING)
+            {
+                state.rejected_schedule_count++;
+                return false;
+            }
+            else if(owner != null && owner != mechanic && owner.getInterruptionPolicy() == MechanicBase.InterruptionPolicy.QUEUE)
             {
-                LinkedList<Double> primary_component_IDs = primary_mechanic.getComponentIDs();
-                LinkedList<Double> secondary_component_IDs = mechanics.get(i).getComponentIDs();
-
-                if(isSharedComponentAmongMechanics(primary_component_IDs, secondary_component_IDs))
-                {
-                    mechanics.get(current_instance_index).cancel();
-                    mechanics.get(i).cancel();
-                    System.err.println("MechanicScheduler.java: Simultaneous component utilization among mechanics exeception! ");
-                }
+                queue = true;
             }
         }
-    }
 
-    private static boolean isSharedComponentAmongMechanics(LinkedList<Double> primary_component_IDs, 
-    LinkedList<Double> secondary_component_IDs)
-    {
-        for(int current_primary_index = 0; current_primary_index < primary_component_IDs.size(); current_primary_index++)
+        if(queue)
+        {
+            mechanic.setQueued(true);
+            state.queued_mechanics.addLast(mechanic);
+            return false;
+        }
+
+        for(int index = requirement_mask.nextSetBit(0); index >= 0; index = requirement_mask.nextSetBit(index + 1))
         {
-            for(int current_secondary_index = 0; current_secondary_index < secondary_component_IDs.size(); current_secondary_index++)
+            if(state.component_owners[index] != null && state.component_owners[index] != mechanic && state.component_owners[index].markInterrupted())
             {
-                if(primary_component_IDs.get(current_primary_index) == secondary_component_IDs.get(current_secondary_index))
-                {
-                    return true;
-                }
+                state.interrupted_mechanics.addLast(state.component_owners[index]);
             }
+
+            state.component_owners[index] = mechanic;
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes a mechanic from the queue of mechanics waiting on their required components, if it's queued. 
+     */
+    protected static void removeQueuedMechanic(MechanicBase mechanic)
+    {
+        State state = mechanic.getWorld().getMechanicSchedulerState();
+
+        if(mechanic.isQueued())
+        {
+            state.queued_mechanics.remove(mechanic);
+            mechanic.setQueued(false);
+        }
+    }
+
+    // Mechanics interrupted by claimRequirements(...) are ended in the order they were interrupted, including any interrupted by the
+    // end() of another. 
+    private static void finishInterruptedMechanics(World world)
+    {
+        State state = world.getMechanicSchedulerState();
+
+        while(!state.interrupted_mechanics.isEmpty())
+        {
+            state.interrupted_mechanics.removeFirst().finishInterruption();
+        }
+    }
+
+    // Queued mechanics are re-scheduled in the order they were queued; any still waiting on their components are queued again. 
+    private static void scheduleQueuedMechanics(World world)
+    {
+        State state = world.getMechanicSchedulerState();
+
+        for(int i = state.queued_mechanics.size(); i > 0; i--)
+        {
+            MechanicBase mechanic = state.queued_mechanics.removeFirst();
+            mechanic.setQueued(false);
+            mechanic.schedule();
         }
+    }
+
+    /**
+     * @return The mechanic that currently owns the component with the component index passed in, or null if the component is free. 
+     */
+    public static MechanicBase getComponentOwner(int component_index)
+    {
+        return getComponentOwner(World.getCurrent(), component_index);
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getComponentOwner(int). 
+     */
+    public static MechanicBase getComponentOwner(World world, int component_index)
+    {
+        State state = world.getMechanicSchedulerState();
+
+        if(component_index < 0 || component_index >= state.component_owners.length)
+        {
+            return null;
+        }
+
+        return state.component_owners[component_index];
+    }
+
+    /**
+     * Frees the component index passed in from the mechanic that owns it, and clears the index from that mechanic's requirement mask,
+     * so that the mechanic never claims or conflicts with a component that's later given the same index. 
+     * 
+     * @see
+     * Note: This method is called by ComponentScheduler when a Component is removed, just before its index is released for reuse. 
+     */
+    public static void releaseComponentIndex(World world, int component_index)
+    {
+        State state = world.getMechanicSchedulerState();
+
+        if(component_index < 0 || component_index >= state.component_owners.length || state.component_owners[component_index] == null)
+        {
+            return;
+        }
+
+        state.component_owners[component_index].getRequirementMask().clear(component_index);
+        state.component_owners[component_index] = null;
+    }
+
+    /**
+     * @return The amount of times a mechanic was rejected when scheduled, given that a component it required was owned by a mechanic
+     * using the CANCEL_INCOMING interruption policy. 
+     */
+    public static long getRejectedScheduleCount()
+    {
+        return getRejectedScheduleCount(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getRejectedScheduleCount(). 
+     */
+    public static long getRejectedScheduleCount(World world)
+    {
+        return world.getMechanicSchedulerState().rejected_schedule_count;
+    }
+
+    /**
+     * @return The amount of mechanics currently waiting on their required components to be free before being scheduled. 
+     */
+    public static int getAmountOfQueuedMechanics()
+    {
+        return getAmountOfQueuedMechanics(World.getCurrent());
+    }
 
-        return false;
+    /**
+     * Acts on the World passed in rather than on the current World; see getAmountOfQueuedMechanics(). 
+     */
+    public static int getAmountOfQueuedMechanics(World world)
+    {
+        return world.getMechanicSchedulerState().queued_mechanics.size();
     }
 
     /**
      * Removes the mechanic passed in from the MechanicScheduler's list of registered mechanics.
+     * 
+     * @see
+     * Note: Removal is O(1); the last registered mechanic is moved into the removed mechanic's slot and takes over its handle. 
+     * Any components owned by the mechanic are freed. 
      */
     public static void removeMechanic(MechanicBase mechanic)
     {
-        for(int i = 0; i < mechanics.size(); i++)
+        State state = mechanic.getWorld().getMechanicSchedulerState();
+        int handle = mechanic.getSchedulerHandle();
+
+        if(handle < 0 || handle >= state.mechanic_count || state.mechanics[handle] != mechanic)
         {
-            if(mechanics.get(i).getMechanicID() == mechanic.getMechanicID())
+            return;
+        }
+
+        BitSet requirement_mask = mechanic.getRequirementMask();
+
+        for(int index = requirement_mask.nextSetBit(0); index >= 0 && index < state.component_owners.length; index = requirement_mask.nextSetBit(index + 1))
+        {
+            if(state.component_owners[index] == mechanic)
             {
-                mechanics.remove(i);
+                state.component_owners[index] = null;
             }
         }
+
+        state.mechanic_count--;
+        MechanicBase last_mechanic = state.mechanics[state.mechanic_count];
+        state.mechanics[handle] = last_mechanic;
+        last_mechanic.setSchedulerHandle(handle);
+        state.mechanics[state.mechanic_count] = null;
+        mechanic.setSchedulerHandle(-1);
     }
 
     /**
@@ -121,20 +377,73 @@ public class MechanicScheduler
      */
     public static MechanicBase getInstance()
     {
-        elapsed_millis += Constants.WINDOW_CHARACTERISTICS.REFRESH_RATE_MILLIS;  
+        return getInstance(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see getInstance(). 
+     */
+    public static MechanicBase getInstance(World world)
+    {
+        State state = world.getMechanicSchedulerState();
         MechanicBase mechanic = null;   
 
-        if(!mechanics.isEmpty() && current_instance_index < mechanics.size())
+        if(state.mechanic_count > 0 && state.current_instance_index < state.mechanic_count)
         {
-            mechanic = mechanics.get(current_instance_index); 
+            mechanic = state.mechanics[state.current_instance_index]; 
         }
-        else if(!mechanics.isEmpty())
+        else if(state.mechanic_count > 0)
         {
-            mechanic = mechanics.getFirst(); 
-            current_instance_index = 0;
+            mechanic = state.mechanics[0]; 
+            state.current_instance_index = 0;
         }
 
-        current_instance_index++;
+        state.current_instance_index++;
         return mechanic;
     }
+
+    /**
+     * Runs every registered mechanic once, in a single pass, for the current tick. Unlike getInstance(), which hands out one 
+     * mechanic per tick, this method keeps the latency of each mechanic at one refresh period regardless of how many mechanics 
+     * are registered. 
+     * 
+     * @see
+     * Note: The registered mechanics are copied into a snapshot before any of them are ran, so mechanics that schedule, cancel, 
+     * or end other mechanics mid-pass will not disturb the pass. Mechanics registered mid-pass will first run on the next tick. 
+     * Mechanics interrupted since the previous pass are ended first, and then queued mechanics whose components have been freed are
+     * scheduled, both before the snapshot is taken. 
+     * 
+     * @see
+     * Note: This method is periodically called based on the application's refresh rate! This must happen!
+     */
+    public static void runMechanics()
+    {
+        runMechanics(World.getCurrent());
+    }
+
+    /**
+     * Acts on the World passed in rather than on the current World; see runMechanics(). 
+     */
+    public static void runMechanics(World world)
+    {
+        State state = world.getMechanicSchedulerState();
+
+        finishInterruptedMechanics(world);
+        scheduleQueuedMechanics(world);
+        int snapshot_size = state.mechanic_count;
+
+        if(state.tick_snapshot.length < snapshot_size)
+        {
+            state.tick_snapshot = new MechanicBase[state.mechanics.length];
+        }
+
+        System.arraycopy(state.mechanics, 0, state.tick_snapshot, 0, snapshot_size);
+
+        for(int i = 0; i < snapshot_size; i++)
+        {
+            MechanicBase mechanic = state.tick_snapshot[i];
+            state.tick_snapshot[i] = null;
+            mechanic.run();
+        }
+    }
 }
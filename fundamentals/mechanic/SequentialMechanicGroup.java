@@ -29,7 +29,6 @@ public class SequentialMechanicGroup extends MechanicBase
     public SequentialMechanicGroup()
     {
         setExecutionalPeriodicDelay(1);
-        MechanicScheduler.registerMechanic(this);
     }
 
     /**
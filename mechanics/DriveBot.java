@@ -12,6 +12,7 @@ public class DriveBot extends MechanicBase
 
     public DriveBot(Bot bot, int delta_x, int delta_y, int delta_degrees)
     {
+        super(bot.getWorld());
         this.bot= bot; 
         this.delta_x = delta_x;
         this.delta_y = delta_y;
@@ -0,0 +1,301 @@
+package odometry;
+
+import java.util.Arrays;
+
+import fundamentals.Pose;
+
+/**
+ * Estimates a robot's pose from its tracking wheels' encoder counts with classic arc odometry. Every sample read from the robot's
+ * OdometrySampleBuffer is turned into the distance each wheel rolled since the previous sample, which is then turned into the 
+ * robot's movement along an arc of constant curvature and added onto the estimated pose. 
+ * 
+ * @see
+ * Note: The change in heading is measured either by the difference between two parallel tracking wheels, 
+ * (delta_left - delta_right) / (right_offset - left_offset), or by the IMU. The robot's forward movement is the average of each 
+ * parallel wheel's distance corrected for the turn, delta_parallel + (lateral_offset * delta_heading), and its lateral movement 
+ * is the perpendicular wheel's distance corrected for the turn, delta_perpendicular - (forward_offset * delta_heading). Without a 
+ * perpendicular wheel, the robot is assumed to never move laterally. 
+ * 
+ * @see
+ * Note: The movement is rotated onto the field at the heading halfway through the turn, and shortened from the arc to the arc's 
+ * chord by a factor of sin(delta_heading / 2) / (delta_heading / 2). Updating never allocates, and every sample written since the
+ * last update is read in a single batch. 
+ */
+public class ArcOdometryEstimator 
+{
+    private TrackingWheelOdometry sensors = null;
+    private HeadingSource heading_source = HeadingSource.TRACKING_WHEELS;
+    private int[] parallel_wheel_indices = new int[0];
+    private double[] parallel_wheel_offsets = new double[0];
+    private int perpendicular_wheel_index = -1;
+    private double perpendicular_wheel_offset = 0;
+    private double[] pixels_per_tick = null;
+    private long[] last_counts = null;
+    private double last_imu_heading = 0;
+    private long next_sequence = 0;
+    private long update_count = 0;
+    private long skipped_sample_count = 0;
+    private long last_sample_nanos = 0;
+    private Pose estimated_pose = new Pose(0, 0, 0);
+
+    /**
+     * Where the estimator measures the robot's change in heading from. 
+     */
+    public enum HeadingSource
+    {
+        /** The difference between two parallel tracking wheels. */
+        TRACKING_WHEELS,
+        /** The IMU. */
+        IMU
+    }
+
+    /**
+     * Estimates a robot's pose from its tracking wheels' encoder counts with classic arc odometry. The estimated pose starts at 
+     * the robot's true pose, and only samples written after the estimator is created are read. 
+     * 
+     * @param sensors
+     * - The robot's odometry sensors. The first two parallel wheels and the first perpendicular wheel are used. 
+     * 
+     * @param heading_source
+     * - Where to measure the robot's change in heading from. Measuring it from the tracking wheels requires two parallel wheels; 
+     * otherwise, the IMU is used regardless. 
+     */
+    public ArcOdometryEstimator(TrackingWheelOdometry sensors, HeadingSource heading_source)
+    {
+        this.sensors = sensors;
+        this.heading_source = heading_source;
+        this.pixels_per_tick = new double[sensors.getWheelCount()];
+        this.last_counts = new long[sensors.getWheelCount()];
+
+        for(int i = 0; i < sensors.getWheelCount(); i++)
+        {
+            TrackingWheel wheel = sensors.getWheel(i);
+            pixels_per_tick[i] = wheel.getPixelsPerTick();
+
+            if(wheel.getOrientation() == TrackingWheel.Orientation.PARALLEL && parallel_wheel_indices.length < 2)
+            {
+                parallel_wheel_indices = Arrays.copyOf(parallel_wheel_indices, parallel_wheel_indices.length + 1);
+                parallel_wheel_offsets = Arrays.copyOf(parallel_wheel_offsets, parallel_wheel_offsets.length + 1);
+                parallel_wheel_indices[parallel_wheel_indices.length - 1] = i;
+                parallel_wheel_offsets[parallel_wheel_offsets.length - 1] = wheel.getOffset();
+            }
+            else if(wheel.getOrientation() == TrackingWheel.Orientation.PERPENDICULAR && perpendicular_wheel_index < 0)
+            {
+                perpendicular_wheel_index = i;
+                perpendicular_wheel_offset = wheel.getOffset();
+            }
+        }
+
+        if(heading_source == HeadingSource.TRACKING_WHEELS && parallel_wheel_indices.length < 2)
+        {
+            System.err.println("ArcOdometryEstimator.java: Two parallel tracking wheels are required to measure heading; using the IMU instead! ");
+            this.heading_source = HeadingSource.IMU;
+        }
+
+        resetToTruePose();
+    }
+
+    /**
+     * Reads every sample written since the last update, and adds the robot's movement between each of them onto the estimated pose.
+     * 
+     * @return The amount of samples read. 
+     * 
+     * @see
+     * Note: If more samples were written since the last update than the sample buffer can hold, the overwritten samples are 
+     * skipped; given that encoder counts are totals, the movement is not lost, but is treated as a single longer arc. 
+     */
+    public int update()
+    {
+        OdometrySampleBuffer sample_buffer = sensors.getSampleBuffer();
+        long written_count = sample_buffer.getWrittenCount();
+        int samples_read = 0;
+
+        if(next_sequence < sample_buffer.getOldestSequence())
+        {
+            skipped_sample_count += sample_buffer.getOldestSequence() - next_sequence;
+            next_sequence = sample_buffer.getOldestSequence();
+        }
+
+        for(; next_sequence < written_count; next_sequence++)
+        {
+            integrateSample(sample_buffer, next_sequence);
+            samples_read++;
+        }
+
+        update_count++;
+        return samples_read;
+    }
+
+    private void integrateSample(OdometrySampleBuffer sample_buffer, long sequence)
+    {
+        double imu_heading = sample_buffer.getImuHeading(sequence);
+        double delta_heading = 0;
+        double delta_forward = 0;
+        double delta_lateral = 0;
+
+        if(heading_source == HeadingSource.TRACKING_WHEELS)
+        {
+            double delta_first = getDistance(sample_buffer, sequence, parallel_wheel_indices[0]);
+            double delta_second = getDistance(sample_buffer, sequence, parallel_wheel_indices[1]);
+            delta_heading = (delta_first - delta_second) / (parallel_wheel_offsets[1] - parallel_wheel_offsets[0]);
+        }
+        else
+        {
+            delta_heading = imu_heading - last_imu_heading;
+        }
+
+        for(int i = 0; i < parallel_wheel_indices.length; i++)
+        {
+            delta_forward += getDistance(sample_buffer, sequence, parallel_wheel_indices[i]) + (parallel_wheel_offsets[i] * delta_heading);
+        }
+
+        if(parallel_wheel_indices.length > 0)
+        {
+            delta_forward /= parallel_wheel_indices.length;
+        }
+
+        if(perpendicular_wheel_index >= 0)
+        {
+            delta_lateral = getDistance(sample_buffer, sequence, perpendicular_wheel_index) - (perpendicular_wheel_offset * delta_heading);
+        }
+
+        for(int i = 0; i < last_counts.length; i++)
+        {
+            last_counts[i] = sample_buffer.getCount(sequence, i);
+        }
+
+        last_imu_heading = imu_heading;
+        last_sample_nanos = sample_buffer.getNanos(sequence);
+        integrate(delta_forward, delta_lateral, delta_heading);
+    }
+
+    // The distance in pixels the wheel rolled between the last sample read and the sample passed in
+    private double getDistance(OdometrySampleBuffer sample_buffer, long sequence, int wheel_index)
+    {
+        return (sample_buffer.getCount(sequence, wheel_index) - last_counts[wheel_index]) * pixels_per_tick[wheel_index];
+    }
+
+    /**
+     * Adds a movement along an arc of constant curvature, described in the robot's frame, onto the estimated pose. 
+     * 
+     * @param delta_forward
+     * - The length of the arc along the robot's forward axis, in pixels. 
+     * 
+     * @param delta_lateral
+     * - The length of the arc along the robot's lateral axis, in pixels. 
+     * 
+     * @param delta_heading
+     * - How far the robot turned along the arc, in radians; clockwise is positive. 
+     */
+    public void integrate(double delta_forward, double delta_lateral, double delta_heading)
+    {
+        double heading = estimated_pose.getHeading();
+        double mid_heading = heading + (delta_heading / 2);
+        double chord_scaler = Math.abs(delta_heading) < 1e-9 ? 1 : Math.sin(delta_heading / 2) / (delta_heading / 2);
+        double cos = Math.cos(mid_heading);
+        double sin = Math.sin(mid_heading);
+        double delta_x = ((delta_forward * cos) - (delta_lateral * sin)) * chord_scaler;
+        double delta_y = ((delta_forward * sin) + (delta_lateral * cos)) * chord_scaler;
+
+        estimated_pose.setPose(estimated_pose.getX() + delta_x, estimated_pose.getY() + delta_y, heading + delta_heading);
+    }
+
+    /**
+     * Sets the estimated pose to the robot's true pose, and skips every sample written so far. 
+     */
+    public void resetToTruePose()
+    {
+        Pose true_pose = sensors.getRobot().getPose();
+        setEstimatedPose(true_pose.getX(), true_pose.getY(), true_pose.getHeading());
+
+        for(int i = 0; i < last_counts.length; i++)
+        {
+            last_counts[i] = sensors.getWheel(i).getCount();
+        }
+
+        // The IMU reads nothing until the sensors are first sampled, so its reading is only a baseline from then on
+        last_imu_heading = sensors.hasBeenSampled() ? sensors.getImu().getHeading() : true_pose.getHeading();
+        next_sequence = sensors.getSampleBuffer().getWrittenCount();
+    }
+
+    /**
+     * Sets the estimated pose. 
+     * 
+     * @param heading
+     * - The heading in radians relative to the X-axis; clockwise is positive. 
+     */
+    public void setEstimatedPose(double x, double y, double heading)
+    {
+        estimated_pose.setPose(x, y, heading);
+    }
+
+    /**
+     * @return The estimated pose as of the latest sample read. 
+     * 
+     * @see
+     * Note: The Pose returned is the estimator's own, and must not be changed. 
+     */
+    public Pose getEstimatedPose()
+    {
+        return estimated_pose;
+    }
+
+    /**
+     * @return The robot's true pose. 
+     */
+    public Pose getTruePose()
+    {
+        return sensors.getRobot().getPose();
+    }
+
+    /**
+     * @return The distance in pixels between the estimated position and the robot's true position. 
+     */
+    public double getPositionError()
+    {
+        Pose true_pose = getTruePose();
+        return Math.hypot(estimated_pose.getX() - true_pose.getX(), estimated_pose.getY() - true_pose.getY());
+    }
+
+    /**
+     * @return The estimated heading minus the robot's true heading, in radians, wrapped into the range (-PI, PI]; so headings a full
+     * turn apart have no error. 
+     */
+    public double getHeadingError()
+    {
+        double heading_error = Math.IEEEremainder(estimated_pose.getHeading() - getTruePose().getHeading(), 2 * Math.PI);
+        return heading_error <= -Math.PI ? heading_error + 2 * Math.PI : heading_error;
+    }
+
+    /**
+     * @return Where the estimator measures the robot's change in heading from. 
+     */
+    public HeadingSource getHeadingSource()
+    {
+        return heading_source;
+    }
+
+    /**
+     * @return The simulated time in nanoseconds of the latest sample read. 
+     */
+    public long getLastSampleNanos()
+    {
+        return last_sample_nanos;
+    }
+
+    /**
+     * @return The amount of times update() has been called. 
+     */
+    public long getUpdateCount()
+    {
+        return update_count;
+    }
+
+    /**
+     * @return The amount of samples that were overwritten before they could be read. 
+     */
+    public long getSkippedSampleCount()
+    {
+        return skipped_sample_count;
+    }
+}
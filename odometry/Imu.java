@@ -0,0 +1,31 @@
+package odometry;
+
+/**
+ * A simulated inertial measurement unit, used as a heading source alongside a robot's tracking wheels. 
+ * 
+ * @see
+ * Note: Headings are in radians relative to the X-axis, clockwise positive, and are never wrapped; the same as Pose.
+ */
+public class Imu 
+{
+    private double heading = 0;
+
+    /**
+     * Measures the heading passed in, which is the robot's true heading at the time of the sample. 
+     * 
+     * @return The measured heading. 
+     */
+    protected double measure(double true_heading)
+    {
+        heading = true_heading;
+        return heading;
+    }
+
+    /**
+     * @return The heading measured by the latest sample. 
+     */
+    public double getHeading()
+    {
+        return heading;
+    }
+}
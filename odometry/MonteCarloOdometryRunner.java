@@ -0,0 +1,161 @@
+package odometry;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import fundamentals.World;
+
+/**
+ * Characterizes how far an ArcOdometryEstimator drifts by running the same trial many times with differently seeded sensor noise,
+ * and collecting the estimator's error at the end of every trial into OdometryTrialResults. Trials are spread across every core
+ * with a ForkJoinPool, and every trial is ran in its own World, so trials never see one another's mechanics, Components, or clock.
+ *
+ * @see
+ * Note: A trial is handed a fresh World, which is also made the current World of its thread, and must build everything it uses, 
+ * such as its application and Components, within that World; nothing it creates may be shared with another trial. The trial's 
+ * World is discarded once the trial returns.
+ *
+ * @see
+ * Note: Every trial's seed is derived only from the base seed and the trial's index, and every trial's errors are stored at its index,
+ * so the results are identical regardless of how many threads the trials are ran on.
+ */
+public class MonteCarloOdometryRunner
+{
+    /**
+     * A single run of an autonomous routine that reports how far its estimator drifted.
+     */
+    public interface OdometryTrial
+    {
+        /**
+         * Builds and runs the trial to completion within the World passed in.
+         *
+         * @param world
+         * - The trial's own World; also the current World of the calling thread while the trial runs.
+         *
+         * @param seed
+         * - The seed that the trial's sensor noise must be seeded with.
+         *
+         * @return The estimator whose errors are collected once the trial has been ran.
+         */
+        public ArcOdometryEstimator runTrial(World world, long seed);
+    }
+
+    private OdometryTrial trial = null;
+    private int parallelism = 0;
+
+    /**
+     * Runs trials across every available core.
+     *
+     * @param trial
+     * - The trial to run.
+     */
+    public MonteCarloOdometryRunner(OdometryTrial trial)
+    {
+        this(trial, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param trial
+     * - The trial to run.
+     *
+     * @param parallelism
+     * - The amount of trials ran at once; the amount of threads in the ForkJoinPool.
+     */
+    public MonteCarloOdometryRunner(OdometryTrial trial, int parallelism)
+    {
+        this.trial = trial;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Runs the amount of trials passed in and waits for all of them to finish.
+     *
+     * @param trial_count
+     * - The amount of trials to run.
+     *
+     * @param base_seed
+     * - The seed the trials' seeds are derived from; trial i is seeded with base_seed + i.
+     *
+     * @return The errors of every trial's estimator.
+     */
+    public OdometryTrialResults run(int trial_count, long base_seed)
+    {
+        double[] position_errors = new double[trial_count];
+        double[] heading_errors = new double[trial_count];
+        long start_nanos = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try
+        {
+            pool.invoke(new TrialTask(0, trial_count, base_seed, position_errors, heading_errors));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        return new OdometryTrialResults(position_errors, heading_errors, System.nanoTime() - start_nanos);
+    }
+
+    /**
+     * @return The amount of trials ran at once.
+     */
+    public int getParallelism()
+    {
+        return parallelism;
+    }
+
+    // Runs one trial in a World of its own, restoring the thread's previous World afterwards
+    private void runTrial(int index, long base_seed, double[] position_errors, double[] heading_errors)
+    {
+        World world = new World();
+        World previous_world = World.setCurrent(world);
+
+        try
+        {
+            ArcOdometryEstimator estimator = trial.runTrial(world, base_seed + index);
+            position_errors[index] = estimator.getPositionError();
+            heading_errors[index] = Math.abs(estimator.getHeadingError());
+        }
+        finally
+        {
+            World.setCurrent(previous_world);
+        }
+    }
+
+    // Splits its range of trials in half until a single trial remains, so idle threads can steal the other half
+    private class TrialTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private int start_index = 0;
+        private int end_index = 0;
+        private long base_seed = 0;
+        private double[] position_errors = null;
+        private double[] heading_errors = null;
+
+        private TrialTask(int start_index, int end_index, long base_seed, double[] position_errors, double[] heading_errors)
+        {
+            this.start_index = start_index;
+            this.end_index = end_index;
+            this.base_seed = base_seed;
+            this.position_errors = position_errors;
+            this.heading_errors = heading_errors;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if(end_index - start_index == 1)
+            {
+                runTrial(start_index, base_seed, position_errors, heading_errors);
+            }
+            else if(end_index - start_index > 1)
+            {
+                int middle_index = (start_index + end_index) >>> 1;
+                invokeAll(new TrialTask(start_index, middle_index, base_seed, position_errors, heading_errors),
+                new TrialTask(middle_index, end_index, base_seed, position_errors, heading_errors));
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package odometry;
+
+/**
+ * A fixed-capacity ring buffer of odometry samples. Each sample holds the simulated time it was taken at, the tick it was taken 
+ * on, every tracking wheel's encoder count, and the IMU's heading. Samples are kept in parallel arrays of primitives that are 
+ * allocated once, so writing a sample never allocates. 
+ * 
+ * @see
+ * Note: Every sample written is given the next sequence number, starting at 0. Readers keep the sequence number of the next sample
+ * they want to read, and read every sample up to getWrittenCount(); once more than the buffer's capacity of samples are written, the
+ * oldest samples are overwritten, and getOldestSequence() increases. 
+ */
+public class OdometrySampleBuffer 
+{
+    private int wheel_count = 0;
+    private int mask = 0;
+    private long written_count = 0;
+    private long[] sample_nanos = null;
+    private long[] sample_ticks = null;
+    private long[] counts = null;
+    private double[] imu_headings = null;
+
+    /**
+     * A fixed-capacity ring buffer of odometry samples. 
+     * 
+     * @param capacity
+     * - The amount of samples to keep; rounded up to the nearest power of two. 
+     * 
+     * @param wheel_count
+     * - The amount of tracking wheels in each sample. 
+     */
+    public OdometrySampleBuffer(int capacity, int wheel_count)
+    {
+        int rounded_capacity = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+
+        this.wheel_count = wheel_count;
+        this.mask = rounded_capacity - 1;
+        this.sample_nanos = new long[rounded_capacity];
+        this.sample_ticks = new long[rounded_capacity];
+        this.counts = new long[rounded_capacity * wheel_count];
+        this.imu_headings = new double[rounded_capacity];
+    }
+
+    /**
+     * Writes a sample, overwriting the oldest sample if the buffer is full. 
+     */
+    protected void write(long nanos, long tick, TrackingWheel[] wheels, double imu_heading)
+    {
+        int slot = (int)(written_count & mask);
+
+        sample_nanos[slot] = nanos;
+        sample_ticks[slot] = tick;
+        imu_headings[slot] = imu_heading;
+
+        for(int i = 0; i < wheel_count; i++)
+        {
+            counts[(slot * wheel_count) + i] = wheels[i].getCount();
+        }
+
+        written_count++;
+    }
+
+    /**
+     * @return The amount of samples ever written; one more than the sequence number of the latest sample. 
+     */
+    public long getWrittenCount()
+    {
+        return written_count;
+    }
+
+    /**
+     * @return The sequence number of the oldest sample still in the buffer. 
+     */
+    public long getOldestSequence()
+    {
+        return Math.max(0, written_count - (mask + 1));
+    }
+
+    /**
+     * @return The amount of samples the buffer can hold. 
+     */
+    public int getCapacity()
+    {
+        return mask + 1;
+    }
+
+    /**
+     * @return The amount of tracking wheels in each sample. 
+     */
+    public int getWheelCount()
+    {
+        return wheel_count;
+    }
+
+    /**
+     * @return The simulated time in nanoseconds, as read from the SimClock, that the sample with the sequence number passed in was
+     * taken at. 
+     */
+    public long getNanos(long sequence)
+    {
+        return sample_nanos[(int)(sequence & mask)];
+    }
+
+    /**
+     * @return The tick the sample with the sequence number passed in was taken on. 
+     */
+    public long getTick(long sequence)
+    {
+        return sample_ticks[(int)(sequence & mask)];
+    }
+
+    /**
+     * @return The encoder count of the tracking wheel with the index passed in, from the sample with the sequence number passed in.
+     */
+    public long getCount(long sequence, int wheel_index)
+    {
+        return counts[((int)(sequence & mask) * wheel_count) + wheel_index];
+    }
+
+    /**
+     * @return The IMU's heading in radians from the sample with the sequence number passed in. 
+     */
+    public double getImuHeading(long sequence)
+    {
+        return imu_headings[(int)(sequence & mask)];
+    }
+}
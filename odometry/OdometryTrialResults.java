@@ -0,0 +1,190 @@
+package odometry;
+
+import java.util.Arrays;
+
+/**
+ * The position and heading errors of every estimator ran by a MonteCarloOdometryRunner, along with statistics over those errors.
+ *
+ * @see
+ * Note: Units of measurement: Pixels for position errors, and radians for heading errors. Heading errors are absolute, and wrapped
+ * into the range [0, PI].
+ */
+public class OdometryTrialResults
+{
+    private double[] position_errors = null;
+    private double[] heading_errors = null;
+    private double[] sorted_position_errors = null;
+    private double[] sorted_heading_errors = null;
+    private long elapsed_nanos = 0;
+
+    /**
+     * @param position_errors
+     * - The final position error of every trial, indexed by trial.
+     *
+     * @param heading_errors
+     * - The final absolute heading error of every trial, indexed by trial.
+     *
+     * @param elapsed_nanos
+     * - The wall time it took to run every trial.
+     */
+    public OdometryTrialResults(double[] position_errors, double[] heading_errors, long elapsed_nanos)
+    {
+        this.position_errors = position_errors;
+        this.heading_errors = heading_errors;
+        this.elapsed_nanos = elapsed_nanos;
+
+        sorted_position_errors = position_errors.clone();
+        sorted_heading_errors = heading_errors.clone();
+        Arrays.sort(sorted_position_errors);
+        Arrays.sort(sorted_heading_errors);
+    }
+
+    private static double mean(double[] values)
+    {
+        double sum = 0;
+
+        for(int i = 0; i < values.length; i++)
+        {
+            sum += values[i];
+        }
+
+        return values.length == 0 ? 0 : sum / values.length;
+    }
+
+    private static double standardDeviation(double[] values)
+    {
+        double mean = mean(values);
+        double sum = 0;
+
+        for(int i = 0; i < values.length; i++)
+        {
+            sum += (values[i] - mean) * (values[i] - mean);
+        }
+
+        return values.length < 2 ? 0 : Math.sqrt(sum / (values.length - 1));
+    }
+
+    // Nearest-rank percentile of sorted values
+    private static double percentile(double[] sorted_values, double percent)
+    {
+        if(sorted_values.length == 0)
+        {
+            return 0;
+        }
+
+        int rank = (int)Math.ceil(Math.max(0, Math.min(100, percent)) / 100 * sorted_values.length);
+        return sorted_values[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * @return The amount of trials ran.
+     */
+    public int getTrialCount()
+    {
+        return position_errors.length;
+    }
+
+    /**
+     * @return The final position error of the trial with the index passed in.
+     */
+    public double getPositionError(int trial_index)
+    {
+        return position_errors[trial_index];
+    }
+
+    /**
+     * @return The final absolute heading error of the trial with the index passed in.
+     */
+    public double getHeadingError(int trial_index)
+    {
+        return heading_errors[trial_index];
+    }
+
+    /**
+     * @return The mean of every trial's final position error.
+     */
+    public double getMeanPositionError()
+    {
+        return mean(position_errors);
+    }
+
+    /**
+     * @return The sample standard deviation of every trial's final position error.
+     */
+    public double getPositionErrorStandardDeviation()
+    {
+        return standardDeviation(position_errors);
+    }
+
+    /**
+     * @return The final position error that the percent passed in of trials are at or below; 50 for the median.
+     */
+    public double getPositionErrorPercentile(double percent)
+    {
+        return percentile(sorted_position_errors, percent);
+    }
+
+    /**
+     * @return The largest final position error of any trial.
+     */
+    public double getMaxPositionError()
+    {
+        return percentile(sorted_position_errors, 100);
+    }
+
+    /**
+     * @return The mean of every trial's final absolute heading error.
+     */
+    public double getMeanHeadingError()
+    {
+        return mean(heading_errors);
+    }
+
+    /**
+     * @return The sample standard deviation of every trial's final absolute heading error.
+     */
+    public double getHeadingErrorStandardDeviation()
+    {
+        return standardDeviation(heading_errors);
+    }
+
+    /**
+     * @return The final absolute heading error that the percent passed in of trials are at or below; 50 for the median.
+     */
+    public double getHeadingErrorPercentile(double percent)
+    {
+        return percentile(sorted_heading_errors, percent);
+    }
+
+    /**
+     * @return The largest final absolute heading error of any trial.
+     */
+    public double getMaxHeadingError()
+    {
+        return percentile(sorted_heading_errors, 100);
+    }
+
+    /**
+     * @return The wall time in nanoseconds it took to run every trial.
+     */
+    public long getElapsedNanos()
+    {
+        return elapsed_nanos;
+    }
+
+    /**
+     * @return A summary of the statistics, in pixels for position errors and degrees for heading errors.
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("%d trials in %.2f s%n"
+        + "Position error (px):   mean %.3f, std dev %.3f, median %.3f, 95th %.3f, max %.3f%n"
+        + "Heading error (deg):   mean %.4f, std dev %.4f, median %.4f, 95th %.4f, max %.4f",
+        getTrialCount(), elapsed_nanos / 1e9,
+        getMeanPositionError(), getPositionErrorStandardDeviation(), getPositionErrorPercentile(50), getPositionErrorPercentile(95),
+        getMaxPositionError(),
+        Math.toDegrees(getMeanHeadingError()), Math.toDegrees(getHeadingErrorStandardDeviation()),
+        Math.toDegrees(getHeadingErrorPercentile(50)), Math.toDegrees(getHeadingErrorPercentile(95)), Math.toDegrees(getMaxHeadingError()));
+    }
+}
@@ -0,0 +1,283 @@
+package odometry;
+
+import java.util.SplittableRandom;
+
+/**
+ * A seedable model of the ways real odometry sensors err, applied to a TrackingWheelOdometry's samples as they're taken. The model
+ * can add any of: 
+ * - Wheel jitter; Gaussian noise on each wheel's distance rolled, with a standard deviation proportional to the distance.
+ * - Wheel slip; each sample, each wheel may begin slipping, after which it only rolls part of its distance for a number of samples. 
+ * - Encoder dropout; each sample, each encoder may drop out, after which its count reads stale for a number of samples. 
+ * - IMU drift; a constant bias rate, plus a bias that wanders as a Gaussian random walk, plus Gaussian noise on every reading.
+ * - IMU quantization; readings are rounded to the IMU's resolution. Encoders are always quantized to whole ticks.
+ * 
+ * @see
+ * Note: Every random draw comes from a single SplittableRandom seeded in the constructor, and draws are made in the same order 
+ * every sample, so the same seed and the same motion always reproduce the same readings exactly. Applying noise never allocates.
+ * Every source of noise is disabled until set.
+ */
+public class SensorNoise 
+{
+    private long seed = 0;
+    private SplittableRandom random = null;
+    private boolean has_spare_gaussian = false;
+    private double spare_gaussian = 0;
+
+    private double wheel_jitter_ratio = 0;
+    private double slip_probability = 0;
+    private double max_slip_fraction = 0;
+    private int slip_samples = 0;
+    private double dropout_probability = 0;
+    private int dropout_samples = 0;
+    private double imu_bias_rate = 0;
+    private double imu_random_walk = 0;
+    private double imu_noise = 0;
+    private double imu_resolution = 0;
+
+    // Indexed by wheel index
+    private int[] slip_samples_remaining = new int[0];
+    private double[] slip_fractions = new double[0];
+    private int[] dropout_samples_remaining = new int[0];
+    private double imu_bias = 0;
+    private long slip_count = 0;
+    private long dropout_count = 0;
+
+    /**
+     * A seedable model of the ways real odometry sensors err. 
+     * 
+     * @param seed
+     * - The seed for every random draw. 
+     */
+    public SensorNoise(long seed)
+    {
+        reseed(seed);
+    }
+
+    /**
+     * Restarts the model's random draws from the seed passed in, and clears any slips, dropouts, and IMU bias in progress. 
+     */
+    public void reseed(long seed)
+    {
+        this.seed = seed;
+        random = new SplittableRandom(seed);
+        has_spare_gaussian = false;
+        imu_bias = 0;
+        slip_count = 0;
+        dropout_count = 0;
+
+        for(int i = 0; i < slip_samples_remaining.length; i++)
+        {
+            slip_samples_remaining[i] = 0;
+            dropout_samples_remaining[i] = 0;
+        }
+    }
+
+    /**
+     * @param ratio
+     * - The standard deviation of each wheel's distance rolled per sample, as a fraction of the distance. EX: 0.01 for 1%.
+     */
+    public void setWheelJitter(double ratio)
+    {
+        wheel_jitter_ratio = ratio;
+    }
+
+    /**
+     * @param probability
+     * - The probability that a wheel that isn't slipping begins slipping on any given sample. 
+     * 
+     * @param max_fraction
+     * - The most a slipping wheel can slip; a slipping wheel rolls between (1 - max_fraction) and all of its distance, drawn 
+     * uniformly once per slip. 
+     * 
+     * @param samples
+     * - How many samples each slip lasts. 
+     */
+    public void setWheelSlip(double probability, double max_fraction, int samples)
+    {
+        slip_probability = probability;
+        max_slip_fraction = max_fraction;
+        slip_samples = samples;
+    }
+
+    /**
+     * @param probability
+     * - The probability that an encoder that isn't dropped out drops out on any given sample. 
+     * 
+     * @param samples
+     * - How many samples each dropout lasts. 
+     */
+    public void setEncoderDropout(double probability, int samples)
+    {
+        dropout_probability = probability;
+        dropout_samples = samples;
+    }
+
+    /**
+     * @param bias_rate
+     * - The constant rate the IMU's heading drifts at, in radians per second. 
+     * 
+     * @param random_walk
+     * - How much the IMU's bias wanders, in radians per square root of a second. 
+     * 
+     * @param noise
+     * - The standard deviation of each reading, in radians. 
+     */
+    public void setImuDrift(double bias_rate, double random_walk, double noise)
+    {
+        imu_bias_rate = bias_rate;
+        imu_random_walk = random_walk;
+        imu_noise = noise;
+    }
+
+    /**
+     * @param resolution
+     * - The smallest change in heading the IMU can read, in radians; 0 for none. 
+     */
+    public void setImuResolution(double resolution)
+    {
+        imu_resolution = resolution;
+    }
+
+    // Called once the model is given to a TrackingWheelOdometry
+    protected void prepare(int wheel_count)
+    {
+        slip_samples_remaining = new int[wheel_count];
+        slip_fractions = new double[wheel_count];
+        dropout_samples_remaining = new int[wheel_count];
+    }
+
+    /**
+     * Applies slip and jitter to the distance the wheel with the index passed in should have rolled this sample, and drops the 
+     * wheel's encoder out or restores it. 
+     * 
+     * @return The distance in pixels the wheel actually rolled. 
+     */
+    protected double applyToWheel(TrackingWheel wheel, int wheel_index, double distance)
+    {
+        if(slip_samples_remaining[wheel_index] == 0 && slip_probability > 0 && random.nextDouble() < slip_probability)
+        {
+            slip_samples_remaining[wheel_index] = slip_samples;
+            slip_fractions[wheel_index] = random.nextDouble() * max_slip_fraction;
+            slip_count++;
+        }
+
+        if(slip_samples_remaining[wheel_index] > 0)
+        {
+            distance *= 1 - slip_fractions[wheel_index];
+            slip_samples_remaining[wheel_index]--;
+        }
+
+        if(wheel_jitter_ratio > 0)
+        {
+            distance += nextGaussian() * wheel_jitter_ratio * Math.abs(distance);
+        }
+
+        if(dropout_samples_remaining[wheel_index] == 0 && dropout_probability > 0 && random.nextDouble() < dropout_probability)
+        {
+            dropout_samples_remaining[wheel_index] = dropout_samples;
+            dropout_count++;
+        }
+
+        wheel.setDroppedOut(dropout_samples_remaining[wheel_index] > 0);
+
+        if(dropout_samples_remaining[wheel_index] > 0)
+        {
+            dropout_samples_remaining[wheel_index]--;
+        }
+
+        return distance;
+    }
+
+    /**
+     * Applies drift, noise, and quantization to the IMU's reading of the heading passed in. 
+     * 
+     * @param elapsed_seconds
+     * - The simulated time since the IMU's bias began drifting. 
+     * 
+     * @param delta_seconds
+     * - The simulated time since the previous reading. 
+     * 
+     * @return The heading read by the IMU, in radians. 
+     */
+    protected double applyToImu(double true_heading, double elapsed_seconds, double delta_seconds)
+    {
+        if(imu_random_walk > 0)
+        {
+            imu_bias += nextGaussian() * imu_random_walk * Math.sqrt(delta_seconds);
+        }
+
+        double heading = true_heading + imu_bias + (imu_bias_rate * elapsed_seconds);
+
+        if(imu_noise > 0)
+        {
+            heading += nextGaussian() * imu_noise;
+        }
+
+        if(imu_resolution > 0)
+        {
+            heading = Math.round(heading / imu_resolution) * imu_resolution;
+        }
+
+        return heading;
+    }
+
+    // Standard normal draws with the Marsaglia polar method, which yields two draws per accepted pair; the second is kept for next time
+    private double nextGaussian()
+    {
+        if(has_spare_gaussian)
+        {
+            has_spare_gaussian = false;
+            return spare_gaussian;
+        }
+
+        double u = 0;
+        double v = 0;
+        double s = 0;
+
+        do
+        {
+            u = (random.nextDouble() * 2) - 1;
+            v = (random.nextDouble() * 2) - 1;
+            s = (u * u) + (v * v);
+        }
+        while(s >= 1 || s == 0);
+
+        double scaler = Math.sqrt(-2 * Math.log(s) / s);
+        spare_gaussian = v * scaler;
+        has_spare_gaussian = true;
+
+        return u * scaler;
+    }
+
+    /**
+     * @return The seed the model's random draws were last started from. 
+     */
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    /**
+     * @return The current IMU bias from the random walk, in radians, not including the constant bias rate. 
+     */
+    public double getImuBias()
+    {
+        return imu_bias;
+    }
+
+    /**
+     * @return The amount of wheel slips that have begun since the model was last seeded. 
+     */
+    public long getSlipCount()
+    {
+        return slip_count;
+    }
+
+    /**
+     * @return The amount of encoder dropouts that have begun since the model was last seeded. 
+     */
+    public long getDropoutCount()
+    {
+        return dropout_count;
+    }
+}
@@ -0,0 +1,160 @@
+package odometry;
+
+/**
+ * A simulated unpowered tracking wheel with an encoder, mounted somewhere on a robot. Parallel wheels roll along the robot's 
+ * forward axis and perpendicular wheels roll along the robot's lateral axis; as the robot moves, each wheel's encoder counts
+ * the distance the wheel rolled in whole encoder ticks. 
+ * 
+ * @see
+ * Note: Offsets are measured in pixels from the robot's center of rotation, in the robot's frame: forward is the direction the
+ * robot is heading, and lateral is 90 degrees clockwise from forward, to the robot's right on-screen. A parallel wheel's offset is
+ * lateral, and a perpendicular wheel's offset is forward. 
+ * 
+ * @see
+ * Note: Encoder counts are only ever whole ticks; the fraction of a tick rolled but not yet counted is carried over to the next 
+ * sample, so no distance is ever lost to rounding. 
+ */
+public class TrackingWheel 
+{
+    private Orientation orientation = Orientation.PARALLEL;
+    private double offset = 0;
+    private double ticks_per_pixel = 0;
+    private long count = 0;
+    private long reported_count = 0;
+    private boolean dropped_out = false;
+    private double remainder_ticks = 0;
+
+    /**
+     * The direction a tracking wheel rolls in, relative to the robot. 
+     */
+    public enum Orientation
+    {
+        /** Rolls along the robot's forward axis; its offset is lateral. */
+        PARALLEL,
+        /** Rolls along the robot's lateral axis; its offset is forward. */
+        PERPENDICULAR
+    }
+
+    /**
+     * A simulated unpowered tracking wheel with an encoder, mounted somewhere on a robot. 
+     * 
+     * @param orientation
+     * - The direction the wheel rolls in, relative to the robot. 
+     * 
+     * @param offset
+     * - The distance in pixels from the robot's center of rotation to the wheel; lateral for parallel wheels, forward for 
+     * perpendicular wheels. 
+     * 
+     * @param wheel_diameter
+     * - The wheel's diameter in pixels. 
+     * 
+     * @param ticks_per_revolution
+     * - The encoder's resolution; how many ticks the encoder counts per full revolution of the wheel. 
+     */
+    public TrackingWheel(Orientation orientation, double offset, double wheel_diameter, int ticks_per_revolution)
+    {
+        this.orientation = orientation;
+        this.offset = offset;
+        this.ticks_per_pixel = ticks_per_revolution / (Math.PI * wheel_diameter);
+    }
+
+    /**
+     * @return The distance in pixels the wheel rolls as the robot moves by the displacement passed in. 
+     * 
+     * @param delta_forward
+     * - How far the robot's center of rotation traveled along the robot's forward axis, in pixels. 
+     * 
+     * @param delta_lateral
+     * - How far the robot's center of rotation traveled along the robot's lateral axis, in pixels. 
+     * 
+     * @param delta_heading
+     * - How far the robot turned, in radians; clockwise is positive. 
+     */
+    public double getTravel(double delta_forward, double delta_lateral, double delta_heading)
+    {
+        return orientation == Orientation.PARALLEL ? delta_forward - (offset * delta_heading) : delta_lateral + (offset * delta_heading);
+    }
+
+    /**
+     * Rolls the wheel by the distance in pixels passed in, and counts the distance rolled. 
+     */
+    protected void roll(double distance)
+    {
+        addTicks(distance * ticks_per_pixel);
+    }
+
+    /**
+     * Adds the amount of encoder ticks passed in, counting only whole ticks and carrying the remaining fraction of a tick over. 
+     */
+    protected void addTicks(double ticks)
+    {
+        double total_ticks = remainder_ticks + ticks;
+        long whole_ticks = (long)Math.floor(total_ticks);
+
+        count += whole_ticks;
+        remainder_ticks = total_ticks - whole_ticks;
+
+        if(!dropped_out)
+        {
+            reported_count = count;
+        }
+    }
+
+    /**
+     * Drops the encoder's readings out, or restores them. While dropped out, the encoder keeps counting, but its count keeps 
+     * reading as the count from before it dropped out; once restored, the count jumps to everything counted in the meantime.
+     */
+    protected void setDroppedOut(boolean dropped_out)
+    {
+        this.dropped_out = dropped_out;
+
+        if(!dropped_out)
+        {
+            reported_count = count;
+        }
+    }
+
+    /**
+     * @return The total amount of encoder ticks counted, as read from the encoder; negative when the wheel has rolled backwards 
+     * more than forwards.
+     */
+    public long getCount()
+    {
+        return reported_count;
+    }
+
+    /**
+     * @return The direction the wheel rolls in, relative to the robot. 
+     */
+    public Orientation getOrientation()
+    {
+        return orientation;
+    }
+
+    /**
+     * @return The distance in pixels from the robot's center of rotation to the wheel; lateral for parallel wheels, forward for 
+     * perpendicular wheels. 
+     */
+    public double getOffset()
+    {
+        return offset;
+    }
+
+    /**
+     * @return The distance in pixels the wheel rolls per encoder tick. 
+     */
+    public double getPixelsPerTick()
+    {
+        return 1 / ticks_per_pixel;
+    }
+
+    /**
+     * Resets the wheel's encoder count to zero. 
+     */
+    public void reset()
+    {
+        count = 0;
+        reported_count = 0;
+        remainder_ticks = 0;
+    }
+}
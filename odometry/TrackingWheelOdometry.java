@@ -0,0 +1,228 @@
+package odometry;
+
+import fundamentals.Pose;
+import fundamentals.SimClock;
+import fundamentals.component.ComponentBase;
+
+/**
+ * A simulated odometry sensor subsystem attached to a robot component: a set of tracking wheels and an IMU. Each time the 
+ * subsystem is sampled, the robot's true pose change since the last sample is turned into the distance each tracking wheel 
+ * rolled, and a sample of every encoder count and the IMU's heading is written to the subsystem's OdometrySampleBuffer. 
+ * 
+ * @see
+ * Note: Each pose change is treated as an arc of constant curvature. The change in position is rotated into the robot's frame
+ * at the heading halfway through the turn, and lengthened from the arc's chord to the arc itself by a factor of
+ * (delta_heading / 2) / sin(delta_heading / 2), before being split among the wheels; a parallel wheel at lateral offset y rolls 
+ * delta_forward - (y * delta_heading), and a perpendicular wheel at forward offset x rolls delta_lateral + (x * delta_heading). 
+ * 
+ * @see
+ * Note: A tick can be split into several samples, interpolating the robot's pose within the tick, so that the sensors can be 
+ * sampled faster than the refresh rate. Sampling never allocates. 
+ * 
+ * @see
+ * Note: Sensor error can be simulated by applying a SensorNoise; without one, the only error is the encoders' quantization. 
+ */
+public class TrackingWheelOdometry 
+{
+    private ComponentBase robot = null;
+    private TrackingWheel[] wheels = null;
+    private Imu imu = new Imu();
+    private SensorNoise sensor_noise = null;
+    private OdometrySampleBuffer sample_buffer = null;
+    private int samples_per_tick = 1;
+    private boolean sampled = false;
+    private double last_x = 0;
+    private double last_y = 0;
+    private double last_heading = 0;
+    private long last_nanos = 0;
+
+    /**
+     * A simulated odometry sensor subsystem attached to a robot component. 
+     * 
+     * @param robot
+     * - The robot component the sensors are mounted on. 
+     * 
+     * @param samples_per_tick
+     * - The amount of samples taken every time the subsystem is sampled; sampled once per tick, the sample rate is this many times
+     * the refresh rate. 
+     * 
+     * @param buffer_capacity
+     * - The amount of samples kept in the OdometrySampleBuffer. 
+     * 
+     * @param wheels
+     * - Every tracking wheel mounted on the robot. 
+     */
+    public TrackingWheelOdometry(ComponentBase robot, int samples_per_tick, int buffer_capacity, TrackingWheel... wheels)
+    {
+        this.robot = robot;
+        this.wheels = wheels;
+        this.samples_per_tick = Math.max(1, samples_per_tick);
+        this.sample_buffer = new OdometrySampleBuffer(buffer_capacity, wheels.length);
+    }
+
+    /**
+     * Samples every sensor for the robot's movement since the last time the subsystem was sampled. The first time the subsystem is
+     * sampled, the robot's current pose is only recorded as the starting pose, and the IMU measures the starting heading. 
+     * 
+     * @see
+     * Note: This method is intended to be called once every tick; see AppInterface.sampleSensors(). 
+     */
+    public void sample()
+    {
+        Pose pose = robot.getPose();
+        long nanos = SimClock.getElapsedNanos(robot.getWorld());
+
+        if(!sampled)
+        {
+            last_x = pose.getX();
+            last_y = pose.getY();
+            last_heading = pose.getHeading();
+            last_nanos = nanos;
+            imu.measure(last_heading);
+            sampled = true;
+            return;
+        }
+
+        double start_x = last_x;
+        double start_y = last_y;
+        double start_heading = last_heading;
+        long start_nanos = last_nanos;
+
+        for(int i = 1; i <= samples_per_tick; i++)
+        {
+            double fraction = (double)i / samples_per_tick;
+
+            long sample_nanos = start_nanos + (long)((nanos - start_nanos) * fraction);
+            double imu_heading = 0;
+
+            step(start_x + ((pose.getX() - start_x) * fraction), start_y + ((pose.getY() - start_y) * fraction), 
+            start_heading + ((pose.getHeading() - start_heading) * fraction));
+
+            if(sensor_noise != null)
+            {
+                imu_heading = imu.measure(sensor_noise.applyToImu(last_heading, sample_nanos / 1e9, (sample_nanos - last_nanos) / 1e9));
+            }
+            else
+            {
+                imu_heading = imu.measure(last_heading);
+            }
+
+            sample_buffer.write(sample_nanos, SimClock.getTickCount(robot.getWorld()), wheels, imu_heading);
+            last_nanos = sample_nanos;
+        }
+
+        last_nanos = nanos;
+    }
+
+    // Rolls every wheel by the robot's movement from the last pose sampled to the pose passed in
+    private void step(double x, double y, double heading)
+    {
+        double delta_x = x - last_x;
+        double delta_y = y - last_y;
+        double delta_heading = heading - last_heading;
+        double mid_heading = last_heading + (delta_heading / 2);
+        double arc_scaler = Math.abs(delta_heading) < 1e-9 ? 1 : (delta_heading / 2) / Math.sin(delta_heading / 2);
+        double cos = Math.cos(mid_heading);
+        double sin = Math.sin(mid_heading);
+        double delta_forward = ((delta_x * cos) + (delta_y * sin)) * arc_scaler;
+        double delta_lateral = ((-delta_x * sin) + (delta_y * cos)) * arc_scaler;
+
+        for(int i = 0; i < wheels.length; i++)
+        {
+            double distance = wheels[i].getTravel(delta_forward, delta_lateral, delta_heading);
+
+            if(sensor_noise != null)
+            {
+                distance = sensor_noise.applyToWheel(wheels[i], i, distance);
+            }
+
+            wheels[i].roll(distance);
+        }
+
+        last_x = x;
+        last_y = y;
+        last_heading = heading;
+    }
+
+    /**
+     * Applies the SensorNoise passed in to every sample taken from now on, or makes the sensors perfect again if null is passed in.
+     */
+    public void setSensorNoise(SensorNoise sensor_noise)
+    {
+        this.sensor_noise = sensor_noise;
+
+        if(sensor_noise != null)
+        {
+            sensor_noise.prepare(wheels.length);
+        }
+
+        for(int i = 0; i < wheels.length; i++)
+        {
+            wheels[i].setDroppedOut(false);
+        }
+    }
+
+    /**
+     * @return Whether or not the subsystem has been sampled, and so has recorded the robot's starting pose. 
+     */
+    public boolean hasBeenSampled()
+    {
+        return sampled;
+    }
+
+    /**
+     * @return The SensorNoise applied to every sample, or null if the sensors are perfect. 
+     */
+    public SensorNoise getSensorNoise()
+    {
+        return sensor_noise;
+    }
+
+    /**
+     * @return The tracking wheel with the index passed in; wheels are indexed in the order they were passed into the constructor. 
+     */
+    public TrackingWheel getWheel(int wheel_index)
+    {
+        return wheels[wheel_index];
+    }
+
+    /**
+     * @return The amount of tracking wheels mounted on the robot. 
+     */
+    public int getWheelCount()
+    {
+        return wheels.length;
+    }
+
+    /**
+     * @return The IMU mounted on the robot. 
+     */
+    public Imu getImu()
+    {
+        return imu;
+    }
+
+    /**
+     * @return The ring buffer every sample is written to. 
+     */
+    public OdometrySampleBuffer getSampleBuffer()
+    {
+        return sample_buffer;
+    }
+
+    /**
+     * @return The amount of samples taken every time the subsystem is sampled. 
+     */
+    public int getSamplesPerTick()
+    {
+        return samples_per_tick;
+    }
+
+    /**
+     * @return The robot component the sensors are mounted on. 
+     */
+    public ComponentBase getRobot()
+    {
+        return robot;
+    }
+}